@@ -0,0 +1,79 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * A stored 200 response. Entries are immutable apart from the flag that keeps a 
+ * stale entry from being revalidated by more than one request at a time; a 
+ * revalidation replaces the entry instead of mutating it.
+ */
+@Getter
+public class CachedResponse {
+	
+	private final HttpHeaders headers;
+	private final byte[] body;
+	private final String etag;
+	private final Instant storedAt;
+	private final Instant freshUntil;
+	private final Instant staleUntil;
+	private final Instant evictAt;
+	
+	@Getter(AccessLevel.NONE)
+	private final AtomicBoolean revalidating = new AtomicBoolean();
+	
+	public CachedResponse(final HttpHeaders headers, final byte[] body, 
+			final Duration timeToLive, final Duration staleWhileRevalidate, final Duration retention) {
+		this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+		this.body = body;
+		this.etag = headers.getETag() != null 
+				? headers.getETag() 
+				: "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+		this.storedAt = Instant.now();
+		this.freshUntil = this.storedAt.plus(timeToLive);
+		this.staleUntil = this.freshUntil.plus(staleWhileRevalidate);
+		this.evictAt = this.hasValidators() ? this.staleUntil.plus(retention) : this.staleUntil;
+	}
+	
+	public boolean isFresh(final Instant now) {
+		return now.isBefore(this.freshUntil);
+	}
+	
+	public boolean isServableStale(final Instant now) {
+		return now.isBefore(this.staleUntil);
+	}
+	
+	/**
+	 * Whether the origin gave us something to send back in a conditional request.
+	 */
+	public boolean hasValidators() {
+		return this.headers.getETag() != null || this.headers.containsKey(HttpHeaders.LAST_MODIFIED);
+	}
+	
+	public boolean startRevalidation() {
+		return this.revalidating.compareAndSet(false, true);
+	}
+	
+	public void endRevalidation() {
+		this.revalidating.set(false);
+	}
+	
+	public long age(final Instant now) {
+		return Math.max(0L, Duration.between(this.storedAt, now).getSeconds());
+	}
+	
+	public int weight() {
+		return this.body.length + this.headers.entrySet().stream()
+				.mapToInt(e -> e.getKey().length() + e.getValue().stream().mapToInt(String::length).sum())
+				.sum();
+	}
+	
+}
+
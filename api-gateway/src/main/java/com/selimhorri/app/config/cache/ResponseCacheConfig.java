@@ -0,0 +1,75 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+public class ResponseCacheConfig {
+	
+	/**
+	 * Bounded by bytes rather than entries, so a few large listings cannot crowd out 
+	 * memory. Each entry lives until its stale window, plus its retention when it can 
+	 * still be revalidated cheaply, has passed.
+	 */
+	@Bean
+	public Cache<String, CachedResponse> responseCache(
+			@Value("${app.response-cache.maximum-size:64MB}") final DataSize maximumSize, 
+			final MeterRegistry meterRegistry) {
+		return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumWeight(maximumSize.toBytes())
+				.weigher((final String key, final CachedResponse cachedResponse) -> cachedResponse.weight())
+				.expireAfter(new Expiry<String, CachedResponse>() {
+					
+					@Override
+					public long expireAfterCreate(final String key, final CachedResponse cachedResponse, final long currentTime) {
+						return Math.max(0L, Duration.between(Instant.now(), cachedResponse.getEvictAt()).toNanos());
+					}
+					
+					@Override
+					public long expireAfterUpdate(final String key, final CachedResponse cachedResponse, 
+							final long currentTime, final long currentDuration) {
+						return this.expireAfterCreate(key, cachedResponse, currentTime);
+					}
+					
+					@Override
+					public long expireAfterRead(final String key, final CachedResponse cachedResponse, 
+							final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.<String, CachedResponse>build(), "gateway.response-cache");
+	}
+	
+	/**
+	 * Used for background revalidation only; resolves lb:// service ids the same way 
+	 * the routes do.
+	 */
+	@Bean
+	public WebClient responseCacheWebClient(final WebClient.Builder webClientBuilder, 
+			final ReactorLoadBalancerExchangeFilterFunction loadBalancerExchangeFilterFunction, 
+			@Value("${app.response-cache.max-entry-size:1MB}") final DataSize maxEntrySize) {
+		return webClientBuilder
+				.filter(loadBalancerExchangeFilterFunction)
+				.codecs(c -> c.defaultCodecs().maxInMemorySize((int) maxEntrySize.toBytes()))
+				.build();
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,145 @@
+package com.selimhorri.app.config.filter;
+
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.jwt.RevokedTokenRegistry;
+import com.selimhorri.app.config.jwt.VerifiedToken;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Verifies bearer tokens once at the edge. As a global filter it runs after the route 
+ * has been matched, but its order puts it ahead of every route filter (rate limiting, 
+ * response cache, single-flight) and of the routing filter that calls the backend. Requests 
+ * with a bad, expired or revoked token are answered with 401 and never reach a backend. Valid 
+ * ones are forwarded with the verified identity as headers. Identity headers sent by 
+ * the client are always stripped, so downstream services can trust them.
+ */
+@Component
+@Slf4j
+public class JwtVerificationFilter implements GlobalFilter, Ordered {
+	
+	public static final String USERNAME_HEADER = "X-Auth-Username";
+	public static final String ROLE_HEADER = "X-Auth-Role";
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String ROLE_CLAIM = "role";
+	private static final String TOKEN_TYPE_CLAIM = "typ";
+	private static final String REFRESH_TOKEN_TYPE = "refresh";
+	
+	private final Cache<String, VerifiedToken> verifiedTokenCache;
+	private final RevokedTokenRegistry revokedTokenRegistry;
+	private final MeterRegistry meterRegistry;
+	private final String secretKey;
+	
+	public JwtVerificationFilter(final Cache<String, VerifiedToken> verifiedTokenCache, 
+			final RevokedTokenRegistry revokedTokenRegistry, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.jwt.secret}") final String secretKey) {
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.revokedTokenRegistry = revokedTokenRegistry;
+		this.meterRegistry = meterRegistry;
+		this.secretKey = secretKey;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		
+		if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX))
+			return chain.filter(exchange.mutate()
+					.request(r -> r.headers(h -> {
+						h.remove(USERNAME_HEADER);
+						h.remove(ROLE_HEADER);
+					}))
+					.build());
+		
+		final VerifiedToken verifiedToken;
+		try {
+			verifiedToken = this.verify(authorizationHeader.substring(BEARER_PREFIX.length()));
+		}
+		catch (JwtException | IllegalArgumentException e) {
+			log.info("** JwtVerificationFilter, rejected token: {} *", e.getMessage());
+			this.meterRegistry.counter("gateway.jwt.verifications", "result", "rejected").increment();
+			exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+			return exchange.getResponse().setComplete();
+		}
+		
+		// checked on every request, cached verifications included
+		if (this.revokedTokenRegistry.isRevoked(verifiedToken.getTokenId())) {
+			log.info("** JwtVerificationFilter, rejected revoked token {} *", verifiedToken.getTokenId());
+			this.meterRegistry.counter("gateway.jwt.verifications", "result", "revoked").increment();
+			exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+			return exchange.getResponse().setComplete();
+		}
+		
+		return chain.filter(exchange.mutate()
+				.request(r -> r.headers(h -> {
+					h.remove(USERNAME_HEADER);
+					h.remove(ROLE_HEADER);
+					h.set(USERNAME_HEADER, verifiedToken.getUsername());
+					if (verifiedToken.getRole() != null)
+						h.set(ROLE_HEADER, verifiedToken.getRole());
+				}))
+				.build());
+	}
+	
+	private VerifiedToken verify(final String token) {
+		
+		final VerifiedToken cached = this.verifiedTokenCache.getIfPresent(token);
+		if (cached != null && cached.getExpiration().isAfter(Instant.now())) {
+			this.meterRegistry.counter("gateway.jwt.verifications", "result", "cached").increment();
+			return cached;
+		}
+		
+		final Claims claims = Jwts.parser()
+				.setSigningKey(this.secretKey)
+				.parseClaimsJws(token)
+				.getBody();
+		if (claims.getSubject() == null || claims.getExpiration() == null)
+			throw new MalformedJwtException("Token must carry a subject and an expiration");
+		if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class)))
+			throw new MalformedJwtException("Refresh tokens are not accepted as bearer tokens");
+		final VerifiedToken verifiedToken = new VerifiedToken(claims.getId(), 
+				claims.getSubject(), 
+				claims.get(ROLE_CLAIM, String.class), 
+				claims.getExpiration().toInstant());
+		this.verifiedTokenCache.put(token, verifiedToken);
+		this.meterRegistry.counter("gateway.jwt.verifications", "result", "verified").increment();
+		return verifiedToken;
+	}
+	
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE + 100;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
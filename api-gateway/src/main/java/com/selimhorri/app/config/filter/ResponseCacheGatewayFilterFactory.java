@@ -0,0 +1,462 @@
+package com.selimhorri.app.config.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.cache.CachedResponse;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shared HTTP cache for read-heavy routes, enabled per route with the ResponseCache 
+ * filter. GET responses are stored as the origin's Cache-Control allows (no-store, 
+ * private and Set-Cookie are never stored); without explicit freshness the route's 
+ * time-to-live applies. Within the stale-while-revalidate window a stale entry is 
+ * served at once while a single background request revalidates it with the origin's 
+ * ETag or Last-Modified. Past that window the request itself revalidates, and a 304 
+ * from the origin is answered from the stored body. Clients get an ETag on every 
+ * cached answer and a 304 when their If-None-Match still matches. A successful 
+ * unsafe request through the route drops the route's entries, and those of the 
+ * routes listed in invalidate-routes that serve the same resources. Runs ahead of the 
+ * single-flight filter and the response writer so the upstream body passes through 
+ * the capturing decorator and only misses get collapsed.
+ */
+@Component
+@Slf4j
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+	
+	private static final Set<String> UNSTORED_HEADERS = Set.of(
+			HttpHeaders.CONNECTION, 
+			HttpHeaders.TRANSFER_ENCODING, 
+			HttpHeaders.CONTENT_LENGTH, 
+			HttpHeaders.DATE, 
+			HttpHeaders.AGE, 
+			HttpHeaders.SET_COOKIE, 
+			"Keep-Alive").stream()
+				.map(h -> h.toLowerCase(Locale.ROOT))
+				.collect(Collectors.toUnmodifiableSet());
+	private static final Set<String> BODY_HEADERS = Set.of(
+			HttpHeaders.CONTENT_TYPE, 
+			HttpHeaders.CONTENT_ENCODING).stream()
+				.map(h -> h.toLowerCase(Locale.ROOT))
+				.collect(Collectors.toUnmodifiableSet());
+	
+	private final Cache<String, CachedResponse> responseCache;
+	private final WebClient responseCacheWebClient;
+	private final MeterRegistry meterRegistry;
+	private final long maxEntrySize;
+	private final Map<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+	
+	public ResponseCacheGatewayFilterFactory(final Cache<String, CachedResponse> responseCache, 
+			final WebClient responseCacheWebClient, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.response-cache.max-entry-size:1MB}") final DataSize maxEntrySize) {
+		super(Config.class);
+		this.responseCache = responseCache;
+		this.responseCacheWebClient = responseCacheWebClient;
+		this.meterRegistry = meterRegistry;
+		this.maxEntrySize = maxEntrySize.toBytes();
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		return new OrderedGatewayFilter((exchange, chain) -> {
+			
+			final ServerHttpRequest request = exchange.getRequest();
+			final Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+			final String routeId = route != null ? route.getId() : "unknown";
+			
+			if (request.getMethod() != HttpMethod.GET) {
+				this.record(routeId, "bypass", 0L);
+				return chain.filter(exchange)
+						.doOnSuccess(v -> this.invalidateOnUnsafe(exchange, routeId, config));
+			}
+			
+			final Set<String> requestDirectives = directives(request.getHeaders());
+			if (requestDirectives.contains("no-store")) {
+				this.record(routeId, "bypass", 0L);
+				return chain.filter(exchange);
+			}
+			
+			final String key = key(routeId, request);
+			final CachedResponse cached = this.responseCache.getIfPresent(key);
+			final Instant now = Instant.now();
+			if (cached != null && !requestDirectives.contains("no-cache")) {
+				if (cached.isFresh(now))
+					return this.serve(exchange, request.getHeaders().getIfNoneMatch(), cached, routeId, "hit");
+				if (cached.isServableStale(now) && route != null && "lb".equals(route.getUri().getScheme())) {
+					if (cached.startRevalidation())
+						this.revalidate(route, request, key, cached, config);
+					return this.serve(exchange, request.getHeaders().getIfNoneMatch(), cached, routeId, "stale");
+				}
+			}
+			return this.forward(exchange, chain, config, key, cached, routeId);
+		}, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2);
+	}
+	
+	private Mono<Void> serve(final ServerWebExchange exchange, final List<String> ifNoneMatch, 
+			final CachedResponse cached, final String routeId, final String result) {
+		
+		final ServerHttpResponse response = exchange.getResponse();
+		final HttpHeaders headers = response.getHeaders();
+		headers.remove(HttpHeaders.TRANSFER_ENCODING);
+		cached.getHeaders().forEach(headers::put);
+		headers.set(HttpHeaders.ETAG, cached.getEtag());
+		headers.set(HttpHeaders.AGE, String.valueOf(cached.age(Instant.now())));
+		
+		if (etagMatches(ifNoneMatch, cached.getEtag())) {
+			this.record(routeId, result, 0L);
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			headers.remove(HttpHeaders.CONTENT_LENGTH);
+			return response.setComplete();
+		}
+		
+		this.record(routeId, result, cached.getBody().length);
+		response.setStatusCode(HttpStatus.OK);
+		headers.setContentLength(cached.getBody().length);
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.getBody())));
+	}
+	
+	private Mono<Void> forward(final ServerWebExchange exchange, final GatewayFilterChain chain, final Config config, 
+			final String key, final CachedResponse cached, final String routeId) {
+		
+		final boolean authorized = exchange.getRequest().getHeaders().containsKey(HttpHeaders.AUTHORIZATION);
+		final boolean conditional = cached != null && cached.hasValidators();
+		final List<String> ifNoneMatch = List.copyOf(exchange.getRequest().getHeaders().getIfNoneMatch());
+		
+		final ServerHttpRequest request = exchange.getRequest().mutate()
+				.headers(h -> {
+					h.remove(HttpHeaders.IF_NONE_MATCH);
+					h.remove(HttpHeaders.IF_MODIFIED_SINCE);
+					if (conditional) {
+						Optional.ofNullable(cached.getHeaders().getETag())
+								.ifPresent(etag -> h.set(HttpHeaders.IF_NONE_MATCH, etag));
+						Optional.ofNullable(cached.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED))
+								.ifPresent(lastModified -> h.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified));
+					}
+				})
+				.build();
+		
+		final ServerHttpResponseDecorator response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+			
+			@Override
+			public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+				
+				if (conditional && this.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+					final HttpHeaders merged = mergeNotModified(cached.getHeaders(), this.getHeaders());
+					final CachedResponse refreshed = freshness(merged, config, authorized)
+							.map(f -> new CachedResponse(merged, cached.getBody(), f.getTimeToLive(), 
+									f.getStaleWhileRevalidate(), config.getRetention()))
+							.orElse(null);
+					if (refreshed != null)
+						responseCache.put(key, refreshed);
+					else
+						responseCache.invalidate(key);
+					return Flux.from(body)
+							.doOnNext(DataBufferUtils::release)
+							.then(serve(exchange, ifNoneMatch, Optional.ofNullable(refreshed).orElse(cached), routeId, "revalidated"));
+				}
+				
+				record(routeId, "miss", 0L);
+				final Optional<Freshness> freshness = this.getStatusCode() == HttpStatus.OK 
+						? freshness(this.getHeaders(), config, authorized) 
+						: Optional.empty();
+				if (freshness.isEmpty() || this.getHeaders().getContentLength() > maxEntrySize) {
+					responseCache.invalidate(key);
+					return super.writeWith(body);
+				}
+				
+				final HttpHeaders headers = storable(this.getHeaders());
+				final ByteArrayOutputStream capture = new ByteArrayOutputStream();
+				return super.writeWith(Flux.from(body)
+						.doOnNext(buffer -> {
+							if (capture.size() <= maxEntrySize)
+								copy(buffer, capture);
+						})
+						.doOnComplete(() -> {
+							if (capture.size() <= maxEntrySize)
+								responseCache.put(key, new CachedResponse(headers, capture.toByteArray(), 
+										freshness.get().getTimeToLive(), freshness.get().getStaleWhileRevalidate(), 
+										config.getRetention()));
+						}));
+			}
+			
+			@Override
+			public Mono<Void> writeAndFlushWith(final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+				record(routeId, "bypass", 0L);
+				return super.writeAndFlushWith(body);
+			}
+		};
+		
+		return chain.filter(exchange.mutate()
+				.request(request)
+				.response(response)
+				.build());
+	}
+	
+	/**
+	 * Refreshes a stale entry off the request path. Only one revalidation per entry 
+	 * runs at a time; whatever it learns replaces the entry for later requests.
+	 */
+	private void revalidate(final Route route, final ServerHttpRequest request, final String key, 
+			final CachedResponse cached, final Config config) {
+		
+		final URI uri = UriComponentsBuilder.fromUri(route.getUri())
+				.scheme("http")
+				.replacePath(request.getURI().getRawPath())
+				.replaceQuery(request.getURI().getRawQuery())
+				.build(true)
+				.toUri();
+		
+		this.responseCacheWebClient.get()
+				.uri(uri)
+				.headers(h -> {
+					Optional.ofNullable(request.getHeaders().get(HttpHeaders.ACCEPT))
+							.ifPresent(accept -> h.put(HttpHeaders.ACCEPT, accept));
+					Optional.ofNullable(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING))
+							.ifPresent(acceptEncoding -> h.put(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+					Optional.ofNullable(cached.getHeaders().getETag())
+							.ifPresent(etag -> h.set(HttpHeaders.IF_NONE_MATCH, etag));
+					Optional.ofNullable(cached.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED))
+							.ifPresent(lastModified -> h.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified));
+				})
+				.exchangeToMono(clientResponse -> {
+					if (clientResponse.statusCode() == HttpStatus.NOT_MODIFIED) {
+						final HttpHeaders merged = mergeNotModified(cached.getHeaders(), clientResponse.headers().asHttpHeaders());
+						return clientResponse.releaseBody()
+								.then(Mono.justOrEmpty(freshness(merged, config, false)
+										.map(f -> new CachedResponse(merged, cached.getBody(), f.getTimeToLive(), 
+												f.getStaleWhileRevalidate(), config.getRetention()))));
+					}
+					if (clientResponse.statusCode() == HttpStatus.OK) {
+						final HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+						final Optional<Freshness> freshness = freshness(headers, config, false);
+						return clientResponse.bodyToMono(byte[].class)
+								.defaultIfEmpty(new byte[0])
+								.flatMap(body -> Mono.justOrEmpty(freshness
+										.map(f -> new CachedResponse(storable(headers), body, f.getTimeToLive(), 
+												f.getStaleWhileRevalidate(), config.getRetention()))));
+					}
+					return clientResponse.releaseBody()
+							.then(Mono.just(cached));
+				})
+				.timeout(config.getRevalidationTimeout())
+				.doFinally(signal -> cached.endRevalidation())
+				.subscribe(
+						refreshed -> {
+							if (refreshed != cached)
+								this.responseCache.put(key, refreshed);
+						}, 
+						e -> log.info("** ResponseCache, revalidation of {} failed: {} *", uri, e.toString()), 
+						() -> {});
+	}
+	
+	private void invalidateOnUnsafe(final ServerWebExchange exchange, final String routeId, final Config config) {
+		final HttpStatus status = exchange.getResponse().getStatusCode();
+		if (status != null && status.is2xxSuccessful()) {
+			final Set<String> prefixes = Stream.concat(Stream.of(routeId), config.getInvalidateRoutes().stream())
+					.map(id -> id + " ")
+					.collect(Collectors.toUnmodifiableSet());
+			this.responseCache.asMap().keySet().removeIf(k -> prefixes.stream().anyMatch(k::startsWith));
+		}
+	}
+	
+	private void record(final String routeId, final String result, final long bytesServed) {
+		this.meterRegistry.counter("gateway.response.cache.requests", "route", routeId, "result", result).increment();
+		if ("bypass".equals(result))
+			return;
+		final RouteStats stats = this.routeStats.computeIfAbsent(routeId, id -> {
+			final RouteStats s = new RouteStats();
+			Gauge.builder("gateway.response.cache.hit.ratio", s, RouteStats::hitRatio)
+					.tag("route", id)
+					.register(this.meterRegistry);
+			return s;
+		});
+		stats.getRequests().increment();
+		if (!"miss".equals(result))
+			stats.getHits().increment();
+		if (bytesServed > 0)
+			this.meterRegistry.counter("gateway.response.cache.served.bytes", "route", routeId).increment(bytesServed);
+	}
+	
+	/**
+	 * How long a response may be served, or empty when it must not be stored at all. 
+	 * Responses to authorized requests are only shared when the origin says so, or 
+	 * when the route is configured as public.
+	 */
+	private static Optional<Freshness> freshness(final HttpHeaders headers, final Config config, final boolean authorized) {
+		
+		final Set<String> directives = directives(headers);
+		if (directives.contains("no-store") || directives.contains("private") 
+				|| headers.containsKey(HttpHeaders.SET_COOKIE) 
+				|| headers.getVary().contains("*"))
+			return Optional.empty();
+		
+		final Optional<Duration> sMaxAge = seconds(directives, "s-maxage");
+		if (authorized && !config.isCacheAuthorized() && !directives.contains("public") && sMaxAge.isEmpty())
+			return Optional.empty();
+		
+		final Duration timeToLive = directives.contains("no-cache") 
+				? Duration.ZERO 
+				: sMaxAge.or(() -> seconds(directives, "max-age")).orElse(config.getTimeToLive());
+		final Duration staleWhileRevalidate = directives.contains("must-revalidate") || directives.contains("proxy-revalidate") 
+				? Duration.ZERO 
+				: seconds(directives, "stale-while-revalidate").orElse(config.getStaleWhileRevalidate());
+		return Optional.of(new Freshness(timeToLive, staleWhileRevalidate));
+	}
+	
+	private static Set<String> directives(final HttpHeaders headers) {
+		return Optional.ofNullable(headers.get(HttpHeaders.CACHE_CONTROL))
+				.stream()
+				.flatMap(List::stream)
+				.flatMap(value -> Arrays.stream(value.split(",")))
+				.map(d -> d.strip().toLowerCase(Locale.ROOT))
+				.filter(d -> !d.isEmpty())
+				.collect(Collectors.toUnmodifiableSet());
+	}
+	
+	private static Optional<Duration> seconds(final Set<String> directives, final String name) {
+		return directives.stream()
+				.filter(d -> d.startsWith(name + "="))
+				.map(d -> d.substring(name.length() + 1).replace("\"", ""))
+				.flatMap(v -> {
+					try {
+						return Optional.of(Duration.ofSeconds(Long.parseLong(v))).stream();
+					}
+					catch (NumberFormatException e) {
+						return Optional.<Duration>empty().stream();
+					}
+				})
+				.findFirst();
+	}
+	
+	private static String key(final String routeId, final ServerHttpRequest request) {
+		return routeId + " " + request.getURI().getRawPath() 
+				+ Optional.ofNullable(request.getURI().getRawQuery()).map(q -> "?" + q).orElse("") 
+				+ " " + request.getHeaders().getAccept() 
+				+ " " + Optional.ofNullable(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING)).orElseGet(List::of);
+	}
+	
+	private static HttpHeaders storable(final HttpHeaders headers) {
+		final HttpHeaders storable = new HttpHeaders();
+		headers.forEach((name, values) -> {
+			final String lowerCase = name.toLowerCase(Locale.ROOT);
+			if (!UNSTORED_HEADERS.contains(lowerCase) && !lowerCase.startsWith("access-control-"))
+				storable.put(name, values);
+		});
+		return storable;
+	}
+	
+	/**
+	 * A 304 updates the stored metadata but never what describes the body itself.
+	 */
+	private static HttpHeaders mergeNotModified(final HttpHeaders stored, final HttpHeaders notModified) {
+		final HttpHeaders merged = new HttpHeaders();
+		merged.putAll(stored);
+		storable(notModified).forEach((name, values) -> {
+			if (!BODY_HEADERS.contains(name.toLowerCase(Locale.ROOT)))
+				merged.put(name, values);
+		});
+		return merged;
+	}
+	
+	private static boolean etagMatches(final List<String> ifNoneMatch, final String etag) {
+		final String opaque = weakless(etag);
+		return ifNoneMatch.stream()
+				.anyMatch(candidate -> "*".equals(candidate) || weakless(candidate).equals(opaque));
+	}
+	
+	private static String weakless(final String etag) {
+		return etag.startsWith("W/") ? etag.substring(2) : etag;
+	}
+	
+	private static void copy(final DataBuffer buffer, final ByteArrayOutputStream capture) {
+		final ByteBuffer byteBuffer = buffer.asByteBuffer();
+		final byte[] bytes = new byte[byteBuffer.remaining()];
+		byteBuffer.get(bytes);
+		capture.write(bytes, 0, bytes.length);
+	}
+	
+	@Data
+	public static class Config {
+		
+		private Duration timeToLive = Duration.ofSeconds(60);
+		private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+		private Duration retention = Duration.ofMinutes(5);
+		private Duration revalidationTimeout = Duration.ofSeconds(5);
+		private boolean cacheAuthorized = false;
+		
+		/**
+		 * Other cached routes whose entries go stale when this route is written to.
+		 */
+		private List<String> invalidateRoutes = List.of();
+		
+	}
+	
+	@Data
+	private static class Freshness {
+		
+		private final Duration timeToLive;
+		private final Duration staleWhileRevalidate;
+		
+	}
+	
+	@Data
+	private static class RouteStats {
+		
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder hits = new LongAdder();
+		
+		double hitRatio() {
+			final long total = this.requests.sum();
+			return total == 0 ? 0.0 : (double) this.hits.sum() / total;
+		}
+		
+	}
+	
+	
+	
+}
+
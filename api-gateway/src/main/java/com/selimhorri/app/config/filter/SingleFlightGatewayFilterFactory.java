@@ -0,0 +1,212 @@
+package com.selimhorri.app.config.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Collapses concurrent identical GETs on a route into one upstream exchange. The 
+ * first request (the leader) goes upstream as usual while its response is 
+ * captured; requests arriving with the same path, query and vary headers before it 
+ * completes wait for that capture and get it replayed. Followers fall back to their 
+ * own upstream call when the leader fails, times out, sets cookies or returns more 
+ * than the shareable size. Runs behind the response cache, so only misses collapse.
+ */
+@Component
+@Slf4j
+public class SingleFlightGatewayFilterFactory extends AbstractGatewayFilterFactory<SingleFlightGatewayFilterFactory.Config> {
+	
+	private static final Set<String> UNSHARED_HEADERS = Set.of(
+			HttpHeaders.CONNECTION, 
+			HttpHeaders.TRANSFER_ENCODING, 
+			HttpHeaders.CONTENT_LENGTH, 
+			HttpHeaders.SET_COOKIE, 
+			"Keep-Alive").stream()
+				.map(h -> h.toLowerCase(Locale.ROOT))
+				.collect(Collectors.toUnmodifiableSet());
+	
+	private final Map<String, Mono<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+	private final long maxResponseSize;
+	
+	public SingleFlightGatewayFilterFactory(final MeterRegistry meterRegistry, 
+			@Value("${app.single-flight.max-response-size:1MB}") final DataSize maxResponseSize) {
+		super(Config.class);
+		this.meterRegistry = meterRegistry;
+		this.maxResponseSize = maxResponseSize.toBytes();
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		return new OrderedGatewayFilter((exchange, chain) -> {
+			
+			if (exchange.getRequest().getMethod() != HttpMethod.GET)
+				return chain.filter(exchange);
+			
+			final Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+			final String routeId = route != null ? route.getId() : "unknown";
+			final String key = key(routeId, exchange.getRequest(), config.getVaryHeaders());
+			
+			final Sinks.One<SharedResponse> sink = Sinks.one();
+			final Mono<SharedResponse> flight = sink.asMono();
+			final Mono<SharedResponse> leading = this.inFlight.putIfAbsent(key, flight);
+			
+			if (leading != null)
+				return leading
+						.timeout(config.getMaxWait())
+						.map(Optional::of)
+						.onErrorResume(e -> {
+							this.meterRegistry.counter("gateway.single.flight.fallbacks", "route", routeId).increment();
+							return Mono.just(Optional.empty());
+						})
+						.flatMap(shared -> shared.isPresent() 
+								? this.replay(exchange, shared.get(), routeId) 
+								: chain.filter(exchange));
+			
+			final ServerHttpResponseDecorator response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+				
+				@Override
+				public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+					
+					final HttpStatus status = this.getStatusCode();
+					if (status == null || this.getHeaders().containsKey(HttpHeaders.SET_COOKIE) 
+							|| this.getHeaders().getContentLength() > maxResponseSize) {
+						inFlight.remove(key, flight);
+						sink.tryEmitError(new IllegalStateException("Response is not shareable"));
+						return super.writeWith(body);
+					}
+					
+					final HttpHeaders headers = shareable(this.getHeaders());
+					final ByteArrayOutputStream capture = new ByteArrayOutputStream();
+					return super.writeWith(Flux.from(body)
+							.doOnNext(buffer -> {
+								if (capture.size() <= maxResponseSize)
+									copy(buffer, capture);
+							})
+							.doOnComplete(() -> {
+								inFlight.remove(key, flight);
+								if (capture.size() <= maxResponseSize)
+									sink.tryEmitValue(new SharedResponse(status, headers, capture.toByteArray()));
+								else
+									sink.tryEmitError(new IllegalStateException("Response exceeds the shareable size"));
+							}));
+				}
+				
+				@Override
+				public Mono<Void> writeAndFlushWith(final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+					inFlight.remove(key, flight);
+					sink.tryEmitError(new IllegalStateException("Streaming response is not shareable"));
+					return super.writeAndFlushWith(body);
+				}
+			};
+			
+			this.meterRegistry.counter("gateway.single.flight.leaders", "route", routeId).increment();
+			return chain.filter(exchange.mutate()
+						.response(response)
+						.build())
+					.doFinally(signal -> {
+						// never leave followers waiting on a leader that errored or was cancelled
+						this.inFlight.remove(key, flight);
+						sink.tryEmitError(new IllegalStateException("Leader completed without a shareable response: " + signal));
+					});
+		}, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+	}
+	
+	private Mono<Void> replay(final ServerWebExchange exchange, final SharedResponse shared, final String routeId) {
+		this.meterRegistry.counter("gateway.single.flight.collapsed", "route", routeId).increment();
+		final ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(shared.getStatus());
+		shared.getHeaders().forEach(response.getHeaders()::put);
+		if (shared.getBody().length == 0)
+			return response.setComplete();
+		response.getHeaders().setContentLength(shared.getBody().length);
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(shared.getBody())));
+	}
+	
+	private static String key(final String routeId, final ServerHttpRequest request, final List<String> varyHeaders) {
+		return routeId + " " + request.getURI().getRawPath() 
+				+ Optional.ofNullable(request.getURI().getRawQuery()).map(q -> "?" + q).orElse("") 
+				+ varyHeaders.stream()
+						.map(h -> " " + h + "=" + request.getHeaders().getOrDefault(h, List.of()))
+						.collect(Collectors.joining());
+	}
+	
+	private static HttpHeaders shareable(final HttpHeaders headers) {
+		final HttpHeaders shareable = new HttpHeaders();
+		headers.forEach((name, values) -> {
+			final String lowerCase = name.toLowerCase(Locale.ROOT);
+			if (!UNSHARED_HEADERS.contains(lowerCase) && !lowerCase.startsWith("access-control-"))
+				shareable.put(name, List.copyOf(values));
+		});
+		return HttpHeaders.readOnlyHttpHeaders(shareable);
+	}
+	
+	private static void copy(final DataBuffer buffer, final ByteArrayOutputStream capture) {
+		final ByteBuffer byteBuffer = buffer.asByteBuffer();
+		final byte[] bytes = new byte[byteBuffer.remaining()];
+		byteBuffer.get(bytes);
+		capture.write(bytes, 0, bytes.length);
+	}
+	
+	@Data
+	public static class Config {
+		
+		private Duration maxWait = Duration.ofSeconds(30);
+		private List<String> varyHeaders = List.of(
+				HttpHeaders.ACCEPT, 
+				HttpHeaders.ACCEPT_ENCODING, 
+				HttpHeaders.AUTHORIZATION, 
+				HttpHeaders.IF_NONE_MATCH, 
+				HttpHeaders.IF_MODIFIED_SINCE);
+		
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	private static class SharedResponse {
+		
+		private final HttpStatus status;
+		private final HttpHeaders headers;
+		private final byte[] body;
+		
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,79 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+public class JwtConfig {
+	
+	/**
+	 * Verified tokens keyed by the full compact token, each kept only for the 
+	 * lifetime the token itself has left.
+	 */
+	@Bean
+	public Cache<String, VerifiedToken> verifiedTokenCache(
+			@Value("${app.jwt.verified-token-cache.maximum-size:10000}") final long maximumSize, 
+			final MeterRegistry meterRegistry) {
+		return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new Expiry<String, VerifiedToken>() {
+					
+					@Override
+					public long expireAfterCreate(final String token, final VerifiedToken verifiedToken, final long currentTime) {
+						return Math.max(0L, Duration.between(Instant.now(), verifiedToken.getExpiration()).toNanos());
+					}
+					
+					@Override
+					public long expireAfterUpdate(final String token, final VerifiedToken verifiedToken, 
+							final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+					
+					@Override
+					public long expireAfterRead(final String token, final VerifiedToken verifiedToken, 
+							final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.<String, VerifiedToken>build(), "gateway.jwt.verified-tokens");
+	}
+	
+	/**
+	 * Used to sync revoked token ids from user-service; resolves lb:// service ids the 
+	 * same way the routes do.
+	 */
+	@Bean
+	public WebClient revokedTokenWebClient(final WebClient.Builder webClientBuilder, 
+			final ReactorLoadBalancerExchangeFilterFunction loadBalancerExchangeFilterFunction) {
+		return webClientBuilder
+				.filter(loadBalancerExchangeFilterFunction)
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
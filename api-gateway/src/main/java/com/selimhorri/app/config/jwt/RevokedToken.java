@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Revocation as served by user-service, expiry in epoch millis.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RevokedToken {
+	
+	private long sequence;
+	private String tokenId;
+	private long expiresAt;
+	
+}
@@ -0,0 +1,16 @@
+package com.selimhorri.app.config.jwt;
+
+import java.util.Collection;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class RevokedTokenCollectionResponse {
+	
+	private Collection<RevokedToken> collection;
+	
+}
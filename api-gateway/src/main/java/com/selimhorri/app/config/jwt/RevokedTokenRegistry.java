@@ -0,0 +1,114 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exact set of revoked token ids, mirrored from user-service so a revoked token is 
+ * turned away at the edge instead of reaching proxy-client. Ids are kept only until 
+ * the token itself expires. A revocation takes effect here within one sync interval; 
+ * if user-service is unreachable the last synced set keeps being served.
+ */
+@Component
+@Slf4j
+public class RevokedTokenRegistry {
+	
+	/**
+	 * Sequences re-read on every sync. Store sequences are assigned before commit, so 
+	 * a lower one can become visible after a higher one was already synced past.
+	 */
+	static final long SEQUENCE_OVERLAP = 100L;
+	
+	private final Cache<String, RevokedToken> revokedTokens = Caffeine.newBuilder()
+			.expireAfter(new Expiry<String, RevokedToken>() {
+				
+				@Override
+				public long expireAfterCreate(final String tokenId, final RevokedToken revokedToken, final long currentTime) {
+					return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, revokedToken.getExpiresAt() - System.currentTimeMillis()));
+				}
+				
+				@Override
+				public long expireAfterUpdate(final String tokenId, final RevokedToken revokedToken, 
+						final long currentTime, final long currentDuration) {
+					return currentDuration;
+				}
+				
+				@Override
+				public long expireAfterRead(final String tokenId, final RevokedToken revokedToken, 
+						final long currentTime, final long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
+	
+	private final WebClient revokedTokenWebClient;
+	private final String apiUrl;
+	private final Duration timeout;
+	private long lastSequence;
+	
+	public RevokedTokenRegistry(final WebClient revokedTokenWebClient, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.jwt.revocation.api-url:http://USER-SERVICE/user-service/api/revoked-tokens}") final String apiUrl, 
+			@Value("${app.jwt.revocation.timeout:5s}") final Duration timeout) {
+		this.revokedTokenWebClient = revokedTokenWebClient;
+		this.apiUrl = apiUrl;
+		this.timeout = timeout;
+		Gauge.builder("gateway.jwt.revoked-tokens", this.revokedTokens, Cache::estimatedSize)
+				.description("Revoked token ids mirrored at the gateway")
+				.register(meterRegistry);
+	}
+	
+	public boolean isRevoked(final String tokenId) {
+		return tokenId != null && this.revokedTokens.getIfPresent(tokenId) != null;
+	}
+	
+	@Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval:PT10S}")
+	public synchronized void synchronize() {
+		try {
+			long from;
+			do {
+				from = this.lastSequence;
+				this.findAllAfter(Math.max(0L, from - SEQUENCE_OVERLAP)).forEach(revokedToken -> {
+					this.revokedTokens.put(revokedToken.getTokenId(), revokedToken);
+					this.lastSequence = Math.max(this.lastSequence, revokedToken.getSequence());
+				});
+			}
+			while (this.lastSequence > from);
+		}
+		catch (WebClientException | IllegalStateException e) {
+			// keep the current set and sequence, the next sync picks up from there
+			log.warn("** RevokedTokenRegistry, user-service unavailable, sync skipped: {} *", e.getMessage());
+		}
+	}
+	
+	private Collection<RevokedToken> findAllAfter(final long sequence) {
+		return Optional.ofNullable(this.revokedTokenWebClient.get()
+					.uri(this.apiUrl + "?after={after}", sequence)
+					.retrieve()
+					.bodyToMono(RevokedTokenCollectionResponse.class)
+					.block(this.timeout))
+				.map(RevokedTokenCollectionResponse::getCollection)
+				.<Collection<RevokedToken>>map(List::copyOf)
+				.orElseGet(List::of);
+	}
+	
+	
+	
+}
@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Identity extracted from a token whose signature has already been verified.
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+	
+	private final String tokenId;
+	private final String username;
+	private final String role;
+	private final Instant expiration;
+	
+}
@@ -0,0 +1,101 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory stand-in for the Redis rate limiter behind RequestRateLimiter. Buckets 
+ * live on this node only, so with several gateway instances each enforces its own 
+ * share of the limit. Routes configure it with local-rate-limiter.* filter args and 
+ * fall back to the app.rate-limiter defaults. Rejections carry Retry-After.
+ */
+@Component
+@Primary
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+	
+	public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+	public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+	public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+	public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+	public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	
+	private final Cache<String, TokenBucket> rateLimiterBuckets;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, DistributionSummary> occupancySummaries = new ConcurrentHashMap<>();
+	private final Config defaultConfig;
+	
+	public LocalRateLimiter(final ConfigurationService configurationService, 
+			final Cache<String, TokenBucket> rateLimiterBuckets, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.rate-limiter.replenish-rate:50}") final int replenishRate, 
+			@Value("${app.rate-limiter.burst-capacity:100}") final int burstCapacity) {
+		super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+		this.rateLimiterBuckets = rateLimiterBuckets;
+		this.meterRegistry = meterRegistry;
+		this.defaultConfig = new Config();
+		this.defaultConfig.setReplenishRate(replenishRate);
+		this.defaultConfig.setBurstCapacity(burstCapacity);
+	}
+	
+	@Override
+	public Mono<Response> isAllowed(final String routeId, final String id) {
+		
+		final Config config = this.getConfig().getOrDefault(routeId, this.defaultConfig);
+		final long now = System.nanoTime();
+		final TokenBucket.Consumption consumption = this.rateLimiterBuckets
+				.get(routeId + " " + id, key -> new TokenBucket(now))
+				.tryConsume(now, config.getReplenishRate(), config.getBurstCapacity(), config.getRequestedTokens());
+		
+		this.meterRegistry.counter("gateway.rate.limiter.requests", 
+				"route", routeId, 
+				"result", consumption.isAllowed() ? "allowed" : "rejected").increment();
+		this.occupancySummaries.computeIfAbsent(routeId, route -> DistributionSummary.builder("gateway.rate.limiter.bucket.occupancy")
+					.description("Share of the burst capacity in use when a request is decided")
+					.tag("route", route)
+					.register(this.meterRegistry))
+				.record(1.0d - (double) consumption.getRemainingTokens() / Math.max(1, config.getBurstCapacity()));
+		
+		final Map<String, String> headers = new HashMap<>();
+		if (config.isIncludeHeaders()) {
+			headers.put(REMAINING_HEADER, String.valueOf(consumption.getRemainingTokens()));
+			headers.put(REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+			headers.put(BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()));
+			headers.put(REQUESTED_TOKENS_HEADER, String.valueOf(config.getRequestedTokens()));
+		}
+		if (!consumption.isAllowed())
+			headers.put(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, 
+					(consumption.getRetryAfterNanos() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND)));
+		
+		return Mono.just(new Response(consumption.isAllowed(), headers));
+	}
+	
+	@Data
+	public static class Config {
+		
+		private int replenishRate;
+		private int burstCapacity;
+		private int requestedTokens = 1;
+		private boolean includeHeaders = true;
+		
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,59 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.filter.JwtVerificationFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+@Configuration
+public class RateLimiterConfig {
+	
+	/**
+	 * One bucket per route and client. A bucket left idle longer than it takes to 
+	 * refill is indistinguishable from a new one, so dropping it loses nothing.
+	 */
+	@Bean
+	public Cache<String, TokenBucket> rateLimiterBuckets(
+			@Value("${app.rate-limiter.buckets.maximum-size:100000}") final long maximumSize, 
+			@Value("${app.rate-limiter.buckets.idle-timeout:5m}") final Duration idleTimeout, 
+			final MeterRegistry meterRegistry) {
+		return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterAccess(idleTimeout)
+				.recordStats()
+				.<String, TokenBucket>build(), "gateway.rate-limiter.buckets");
+	}
+	
+	/**
+	 * Limits by the verified username when the request carries a valid token, and by 
+	 * client address otherwise. The username header is set by the JWT filter after 
+	 * stripping whatever the client sent, so it cannot be forged to dodge the limit.
+	 */
+	@Bean
+	@Primary
+	public KeyResolver userOrAddressKeyResolver() {
+		return exchange -> Mono.just(Optional
+				.ofNullable(exchange.getRequest().getHeaders().getFirst(JwtVerificationFilter.USERNAME_HEADER))
+				.map(username -> "user:" + username)
+				.orElseGet(() -> "address:" + Optional.ofNullable(exchange.getRequest().getRemoteAddress())
+						.map(InetSocketAddress::getHostString)
+						.orElse("unknown")));
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,56 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Token bucket kept as a single theoretical arrival time: the instant at which the 
+ * bucket would be full again. Taking tokens pushes that instant forward by one 
+ * replenish interval per token, and a request is turned away when it would push it 
+ * further than the burst capacity ahead of now. One compare-and-set per decision, no 
+ * locks and no refill thread.
+ */
+public class TokenBucket {
+	
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	
+	private final AtomicLong theoreticalArrivalTime;
+	
+	public TokenBucket(final long nowNanos) {
+		this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+	}
+	
+	public Consumption tryConsume(final long nowNanos, final int replenishRate, 
+			final int burstCapacity, final int requestedTokens) {
+		
+		final long interval = NANOS_PER_SECOND / Math.max(1, replenishRate);
+		final long capacity = Math.max(1, burstCapacity) * interval;
+		
+		while (true) {
+			final long current = this.theoreticalArrivalTime.get();
+			final long base = Math.max(current, nowNanos);
+			final long next = base + requestedTokens * interval;
+			
+			if (next - nowNanos > capacity)
+				return new Consumption(false, (capacity - (base - nowNanos)) / interval, next - nowNanos - capacity);
+			if (this.theoreticalArrivalTime.compareAndSet(current, next))
+				return new Consumption(true, (capacity - (next - nowNanos)) / interval, 0L);
+		}
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	public static class Consumption {
+		
+		private final boolean allowed;
+		private final long remainingTokens;
+		private final long retryAfterNanos;
+		
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,143 @@
+package com.selimhorri.app.config.filter;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.jwt.RevokedTokenRegistry;
+import com.selimhorri.app.config.jwt.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtVerificationFilterTest {
+
+    private static final String SECRET = "test-secret";
+
+    private JwtVerificationFilter jwtVerificationFilter;
+    private RevokedTokenRegistry revokedTokenRegistry;
+    private AtomicReference<ServerHttpRequest> forwarded;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRegistry = mock(RevokedTokenRegistry.class);
+        jwtVerificationFilter = new JwtVerificationFilter(Caffeine.newBuilder().<String, VerifiedToken>build(),
+                revokedTokenRegistry, new SimpleMeterRegistry(), SECRET);
+        forwarded = new AtomicReference<>();
+        chain = exchange -> {
+            forwarded.set(exchange.getRequest());
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void shouldStripClientIdentityHeadersWithoutToken() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/orders")
+                .header(JwtVerificationFilter.USERNAME_HEADER, "admin")
+                .header(JwtVerificationFilter.ROLE_HEADER, "ROLE_ADMIN"));
+
+        jwtVerificationFilter.filter(exchange, chain).block();
+
+        assertNotNull(forwarded.get());
+        assertFalse(forwarded.get().getHeaders().containsKey(JwtVerificationFilter.USERNAME_HEADER));
+        assertFalse(forwarded.get().getHeaders().containsKey(JwtVerificationFilter.ROLE_HEADER));
+    }
+
+    @Test
+    void shouldStripClientIdentityHeadersWithNonBearerAuthorization() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Basic YWRtaW46YWRtaW4=")
+                .header(JwtVerificationFilter.USERNAME_HEADER, "admin"));
+
+        jwtVerificationFilter.filter(exchange, chain).block();
+
+        assertFalse(forwarded.get().getHeaders().containsKey(JwtVerificationFilter.USERNAME_HEADER));
+    }
+
+    @Test
+    void shouldRejectInvalidTokenBeforeForwarding() {
+        String forged = Jwts.builder()
+                .setSubject("admin")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5)))
+                .signWith(SignatureAlgorithm.HS256, "other-secret")
+                .compact();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + forged)
+                .header(JwtVerificationFilter.USERNAME_HEADER, "admin"));
+
+        jwtVerificationFilter.filter(exchange, chain).block();
+
+        assertNull(forwarded.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void shouldRejectRefreshTokenAsBearer() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("isa", Map.of("typ", "refresh"))));
+
+        jwtVerificationFilter.filter(exchange, chain).block();
+
+        assertNull(forwarded.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void shouldReplaceClientIdentityHeadersWithVerifiedIdentity() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("isa", Map.of("role", "ROLE_USER")))
+                .header(JwtVerificationFilter.USERNAME_HEADER, "admin")
+                .header(JwtVerificationFilter.ROLE_HEADER, "ROLE_ADMIN"));
+
+        jwtVerificationFilter.filter(exchange, chain).block();
+
+        assertEquals("isa", forwarded.get().getHeaders().getFirst(JwtVerificationFilter.USERNAME_HEADER));
+        assertEquals(1, forwarded.get().getHeaders().get(JwtVerificationFilter.USERNAME_HEADER).size());
+        assertEquals("ROLE_USER", forwarded.get().getHeaders().getFirst(JwtVerificationFilter.ROLE_HEADER));
+    }
+
+    @Test
+    void shouldRejectRevokedTokenEvenWhenVerificationIsCached() {
+        String token = token("isa", Map.of("jti", "jti-1"));
+        jwtVerificationFilter.filter(exchange(token), chain).block();
+        assertNotNull(forwarded.get());
+        forwarded.set(null);
+        when(revokedTokenRegistry.isRevoked("jti-1")).thenReturn(true);
+
+        MockServerWebExchange exchange = exchange(token);
+        jwtVerificationFilter.filter(exchange, chain).block();
+
+        assertNull(forwarded.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    private static MockServerWebExchange exchange(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    private static String token(String subject, Map<String, Object> claims) {
+        return Jwts.builder()
+                .setClaims(new HashMap<>(claims))
+                .setSubject(subject)
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5)))
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+    }
+}
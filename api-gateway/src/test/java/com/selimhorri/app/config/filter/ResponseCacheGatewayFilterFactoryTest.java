@@ -0,0 +1,248 @@
+package com.selimhorri.app.config.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.cache.CachedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final Route PRODUCT_ROUTE = route("PRODUCT-SERVICE", "lb://PRODUCT-SERVICE");
+    private static final Route CATALOG_ROUTE = route("PROXY-CLIENT-CATALOG", "lb://PROXY-CLIENT");
+
+    private Cache<String, CachedResponse> responseCache;
+    private List<ClientRequest> revalidations;
+    private ResponseCacheGatewayFilterFactory responseCacheGatewayFilterFactory;
+    private AtomicInteger upstreamCalls;
+    private List<ServerHttpRequest> upstreamRequests;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = Caffeine.newBuilder().<String, CachedResponse>build();
+        revalidations = new CopyOnWriteArrayList<>();
+        WebClient responseCacheWebClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    revalidations.add(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                            .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                            .build());
+                })
+                .build();
+        responseCacheGatewayFilterFactory = new ResponseCacheGatewayFilterFactory(responseCache,
+                responseCacheWebClient, new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+        upstreamCalls = new AtomicInteger();
+        upstreamRequests = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void shouldServeFreshHitWithoutCallingUpstream() {
+        GatewayFilter filter = responseCacheGatewayFilterFactory.apply(config(Duration.ofSeconds(60), Duration.ZERO));
+        GatewayFilterChain chain = origin(HttpStatus.OK, "[1]", h -> {});
+
+        MockServerWebExchange first = get(PRODUCT_ROUTE, "/product-service/api/products", h -> {});
+        filter.filter(first, chain).block();
+        MockServerWebExchange second = get(PRODUCT_ROUTE, "/product-service/api/products", h -> {});
+        filter.filter(second, chain).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+        assertEquals("[1]", second.getResponse().getBodyAsString().block());
+        assertNotNull(second.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void shouldAnswerClientRevalidationWithNotModified() {
+        GatewayFilter filter = responseCacheGatewayFilterFactory.apply(config(Duration.ofSeconds(60), Duration.ZERO));
+        GatewayFilterChain chain = origin(HttpStatus.OK, "[1]", h -> h.setETag("\"v1\""));
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", h -> {}), chain).block();
+
+        MockServerWebExchange conditional = get(PRODUCT_ROUTE, "/product-service/api/products",
+                h -> h.setIfNoneMatch("\"v1\""));
+        filter.filter(conditional, chain).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+        assertEquals("", conditional.getResponse().getBodyAsString().defaultIfEmpty("").block());
+    }
+
+    @Test
+    void shouldServeStoredBodyWhenOriginRevalidatesExpiredEntryWithNotModified() {
+        GatewayFilter filter = responseCacheGatewayFilterFactory.apply(config(Duration.ZERO, Duration.ZERO));
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", h -> {}),
+                origin(HttpStatus.OK, "[1]", h -> h.setETag("\"v1\""))).block();
+
+        MockServerWebExchange revalidated = get(PRODUCT_ROUTE, "/product-service/api/products", h -> {});
+        filter.filter(revalidated, origin(HttpStatus.NOT_MODIFIED, null, h -> {})).block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("\"v1\"", upstreamRequests.get(1).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(HttpStatus.OK, revalidated.getResponse().getStatusCode());
+        assertEquals("[1]", revalidated.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void shouldServeStaleEntryAndRevalidateInBackground() {
+        GatewayFilter filter = responseCacheGatewayFilterFactory.apply(config(Duration.ZERO, Duration.ofSeconds(30)));
+        GatewayFilterChain chain = origin(HttpStatus.OK, "[1]", h -> h.setETag("\"v1\""));
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", h -> {}), chain).block();
+
+        MockServerWebExchange stale = get(PRODUCT_ROUTE, "/product-service/api/products", h -> {});
+        filter.filter(stale, chain).block();
+        MockServerWebExchange refreshed = get(PRODUCT_ROUTE, "/product-service/api/products", h -> {});
+        filter.filter(refreshed, chain).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("[1]", stale.getResponse().getBodyAsString().block());
+        assertEquals(1, revalidations.size());
+        assertEquals("\"v1\"", revalidations.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("[1]", refreshed.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void shouldBypassCacheForNoStoreRequestsAndResponses() {
+        GatewayFilter filter = responseCacheGatewayFilterFactory.apply(config(Duration.ofSeconds(60), Duration.ZERO));
+
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", h -> {}),
+                origin(HttpStatus.OK, "[1]", h -> h.setCacheControl("no-store"))).block();
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", h -> {}),
+                origin(HttpStatus.OK, "[1]", h -> {})).block();
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", h -> h.setCacheControl("no-store")),
+                origin(HttpStatus.OK, "[1]", h -> {})).block();
+
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(1L, responseCache.estimatedSize());
+    }
+
+    @Test
+    void shouldNotShareAuthorizedResponsesUnlessRouteOrOriginAllows() {
+        GatewayFilter privateFilter = responseCacheGatewayFilterFactory.apply(config(Duration.ofSeconds(60), Duration.ZERO));
+        Consumer<HttpHeaders> authorized = h -> h.setBearerAuth("token");
+
+        privateFilter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", authorized),
+                origin(HttpStatus.OK, "[1]", h -> {})).block();
+        assertEquals(0L, responseCache.estimatedSize());
+
+        privateFilter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", authorized),
+                origin(HttpStatus.OK, "[1]", h -> h.setCacheControl("public"))).block();
+        MockServerWebExchange anonymous = get(PRODUCT_ROUTE, "/product-service/api/products", h -> {});
+        privateFilter.filter(anonymous, origin(HttpStatus.OK, "[2]", h -> {})).block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("[1]", anonymous.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void shouldCacheAuthorizedResponsesOnPublicRoute() {
+        ResponseCacheGatewayFilterFactory.Config config = config(Duration.ofSeconds(60), Duration.ZERO);
+        config.setCacheAuthorized(true);
+        GatewayFilter filter = responseCacheGatewayFilterFactory.apply(config);
+        GatewayFilterChain chain = origin(HttpStatus.OK, "[1]", h -> {});
+
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", h -> h.setBearerAuth("a")), chain).block();
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products", h -> h.setBearerAuth("b")), chain).block();
+
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void shouldDropEntriesOfRelatedRoutesOnSuccessfulWrite() {
+        ResponseCacheGatewayFilterFactory.Config productConfig = config(Duration.ofSeconds(60), Duration.ZERO);
+        productConfig.setInvalidateRoutes(List.of(CATALOG_ROUTE.getId()));
+        GatewayFilter productFilter = responseCacheGatewayFilterFactory.apply(productConfig);
+        GatewayFilter catalogFilter = responseCacheGatewayFilterFactory.apply(config(Duration.ofSeconds(60), Duration.ZERO));
+        GatewayFilterChain chain = origin(HttpStatus.OK, "[1]", h -> {});
+        catalogFilter.filter(get(CATALOG_ROUTE, "/app/api/products/1", h -> {}), chain).block();
+        productFilter.filter(get(PRODUCT_ROUTE, "/product-service/api/products/1", h -> {}), chain).block();
+        assertEquals(2L, responseCache.estimatedSize());
+
+        productFilter.filter(exchange(PRODUCT_ROUTE, MockServerHttpRequest.put("/product-service/api/products/1")),
+                origin(HttpStatus.OK, "{}", h -> {})).block();
+
+        assertTrue(responseCache.asMap().isEmpty());
+        catalogFilter.filter(get(CATALOG_ROUTE, "/app/api/products/1", h -> {}), chain).block();
+        assertEquals(4, upstreamCalls.get());
+    }
+
+    @Test
+    void shouldKeepEntriesOnFailedWrite() {
+        GatewayFilter filter = responseCacheGatewayFilterFactory.apply(config(Duration.ofSeconds(60), Duration.ZERO));
+        filter.filter(get(PRODUCT_ROUTE, "/product-service/api/products/1", h -> {}),
+                origin(HttpStatus.OK, "[1]", h -> {})).block();
+
+        filter.filter(exchange(PRODUCT_ROUTE, MockServerHttpRequest.post("/product-service/api/products")),
+                origin(HttpStatus.BAD_REQUEST, "{}", h -> {})).block();
+
+        assertEquals(1L, responseCache.estimatedSize());
+    }
+
+    private GatewayFilterChain origin(HttpStatus status, String body, Consumer<HttpHeaders> headers) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            upstreamRequests.add(exchange.getRequest());
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(status);
+            headers.accept(response.getHeaders());
+            if (body == null)
+                return response.writeWith(Flux.empty());
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            response.getHeaders().setContentLength(bytes.length);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        };
+    }
+
+    private static MockServerWebExchange get(Route route, String path, Consumer<HttpHeaders> headers) {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        headers.accept(requestHeaders);
+        return exchange(route, MockServerHttpRequest.get(path).headers(requestHeaders));
+    }
+
+    private static MockServerWebExchange exchange(Route route, MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+
+    private static ResponseCacheGatewayFilterFactory.Config config(Duration timeToLive, Duration staleWhileRevalidate) {
+        ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+        config.setTimeToLive(timeToLive);
+        config.setStaleWhileRevalidate(staleWhileRevalidate);
+        return config;
+    }
+
+    private static Route route(String id, String uri) {
+        return Route.async()
+                .id(id)
+                .uri(URI.create(uri))
+                .predicate(exchange -> true)
+                .build();
+    }
+
+}
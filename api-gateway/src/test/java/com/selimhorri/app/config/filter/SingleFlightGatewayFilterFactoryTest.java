@@ -0,0 +1,181 @@
+package com.selimhorri.app.config.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightGatewayFilterFactoryTest {
+
+    private static final Route ROUTE = Route.async()
+            .id("PRODUCT-SERVICE")
+            .uri(URI.create("lb://PRODUCT-SERVICE"))
+            .predicate(exchange -> true)
+            .build();
+
+    private SingleFlightGatewayFilterFactory singleFlightGatewayFilterFactory;
+    private GatewayFilter filter;
+    private AtomicInteger upstreamCalls;
+    private Sinks.Empty<Void> release;
+
+    @BeforeEach
+    void setUp() {
+        singleFlightGatewayFilterFactory = new SingleFlightGatewayFilterFactory(new SimpleMeterRegistry(),
+                DataSize.ofMegabytes(1));
+        SingleFlightGatewayFilterFactory.Config config = new SingleFlightGatewayFilterFactory.Config();
+        config.setMaxWait(Duration.ofSeconds(5));
+        filter = singleFlightGatewayFilterFactory.apply(config);
+        upstreamCalls = new AtomicInteger();
+        release = Sinks.empty();
+    }
+
+    @Test
+    void shouldCollapseConcurrentIdenticalGetsIntoOneUpstreamCall() {
+        MockServerWebExchange leader = get("token");
+        MockServerWebExchange follower = get("token");
+        GatewayFilterChain chain = origin("[1]");
+
+        Mono<Void> leading = filter.filter(leader, chain).cache();
+        leading.subscribe();
+        Mono<Void> following = filter.filter(follower, chain).cache();
+        following.subscribe();
+        release.tryEmitEmpty();
+        leading.block(Duration.ofSeconds(5));
+        following.block(Duration.ofSeconds(5));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("[1]", leader.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.OK, follower.getResponse().getStatusCode());
+        assertEquals("[1]", follower.getResponse().getBodyAsString().block());
+        assertTrue(inFlight().isEmpty());
+    }
+
+    @Test
+    void shouldNotMergeRequestsWithDifferentAuthorization() {
+        GatewayFilterChain chain = origin("[1]");
+
+        Mono<Void> first = filter.filter(get("alice"), chain).cache();
+        first.subscribe();
+        Mono<Void> second = filter.filter(get("bob"), chain).cache();
+        second.subscribe();
+        release.tryEmitEmpty();
+        first.block(Duration.ofSeconds(5));
+        second.block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void shouldLetFollowersFallBackWhenLeaderFails() {
+        GatewayFilterChain failing = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.error(new IllegalStateException("upstream reset")));
+        };
+        MockServerWebExchange follower = get("token");
+
+        Mono<Void> leading = filter.filter(get("token"), failing).cache();
+        leading.subscribe(v -> {}, e -> {});
+        Mono<Void> following = filter.filter(follower, origin("[1]")).cache();
+        following.subscribe();
+        release.tryEmitEmpty();
+
+        assertThrows(IllegalStateException.class, () -> leading.block(Duration.ofSeconds(5)));
+        following.block(Duration.ofSeconds(5));
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("[1]", follower.getResponse().getBodyAsString().block());
+        assertTrue(inFlight().isEmpty());
+    }
+
+    @Test
+    void shouldNotLeaveStuckEntryWhenLeaderIsCancelled() {
+        GatewayFilterChain chain = origin("[1]");
+        MockServerWebExchange follower = get("token");
+
+        Disposable leading = filter.filter(get("token"), chain).subscribe();
+        Mono<Void> following = filter.filter(follower, chain).cache();
+        following.subscribe();
+        leading.dispose();
+
+        assertTrue(inFlight().isEmpty());
+        release.tryEmitEmpty();
+        following.block(Duration.ofSeconds(5));
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("[1]", follower.getResponse().getBodyAsString().block());
+
+        MockServerWebExchange next = get("token");
+        filter.filter(next, chain).block(Duration.ofSeconds(5));
+        assertEquals(3, upstreamCalls.get());
+        assertTrue(inFlight().isEmpty());
+    }
+
+    @Test
+    void shouldNotShareResponsesSettingCookies() {
+        GatewayFilterChain chain = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> {
+                exchange.getResponse().getHeaders().add(HttpHeaders.SET_COOKIE, "session=" + upstreamCalls.get());
+                return write(exchange.getResponse(), "[1]");
+            }));
+        };
+        MockServerWebExchange follower = get("token");
+
+        Mono<Void> leading = filter.filter(get("token"), chain).cache();
+        leading.subscribe();
+        Mono<Void> following = filter.filter(follower, chain).cache();
+        following.subscribe();
+        release.tryEmitEmpty();
+        leading.block(Duration.ofSeconds(5));
+        following.block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("session=2", follower.getResponse().getHeaders().getFirst(HttpHeaders.SET_COOKIE));
+    }
+
+    private GatewayFilterChain origin(String body) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> write(exchange.getResponse(), body)));
+        };
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentLength(bytes.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+
+    private static MockServerWebExchange get(String token) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/product-service/api/products")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, ROUTE);
+        return exchange;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> inFlight() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(singleFlightGatewayFilterFactory, "inFlight");
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.selimhorri.app.config.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevokedTokenRegistryTest {
+
+    private final List<RevokedToken> committed = new CopyOnWriteArrayList<>();
+    private volatile boolean available = true;
+
+    private final RevokedTokenRegistry revokedTokenRegistry = new RevokedTokenRegistry(
+            WebClient.builder().exchangeFunction(request -> {
+                if (!available)
+                    return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+                long after = Long.parseLong(UriComponentsBuilder.fromUri(request.url()).build()
+                        .getQueryParams().getFirst("after"));
+                String body = committed.stream()
+                        .filter(revokedToken -> revokedToken.getSequence() > after)
+                        .map(revokedToken -> String.format("{\"sequence\":%d,\"tokenId\":\"%s\",\"expiresAt\":%d}",
+                                revokedToken.getSequence(), revokedToken.getTokenId(), revokedToken.getExpiresAt()))
+                        .collect(Collectors.joining(",", "{\"collection\":[", "]}"));
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build());
+            }).build(),
+            new SimpleMeterRegistry(), "http://USER-SERVICE/user-service/api/revoked-tokens", Duration.ofSeconds(5));
+
+    @Test
+    void shouldMirrorRevocationsAndDropExpiredOnes() {
+        committed.add(new RevokedToken(1L, "jti-1", System.currentTimeMillis() + 60_000));
+        committed.add(new RevokedToken(2L, "expired", System.currentTimeMillis() - 1_000));
+
+        revokedTokenRegistry.synchronize();
+
+        assertTrue(revokedTokenRegistry.isRevoked("jti-1"));
+        assertFalse(revokedTokenRegistry.isRevoked("expired"));
+        assertFalse(revokedTokenRegistry.isRevoked(null));
+    }
+
+    @Test
+    void shouldNotSkipRevocationCommittedOutOfSequenceOrder() {
+        committed.add(new RevokedToken(2L, "jti-2", System.currentTimeMillis() + 60_000));
+        revokedTokenRegistry.synchronize();
+        committed.add(new RevokedToken(1L, "jti-1", System.currentTimeMillis() + 60_000));
+
+        revokedTokenRegistry.synchronize();
+
+        assertTrue(revokedTokenRegistry.isRevoked("jti-1"));
+        assertTrue(revokedTokenRegistry.isRevoked("jti-2"));
+    }
+
+    @Test
+    void shouldKeepServingLastSyncedSetWhenUserServiceIsUnavailable() {
+        committed.add(new RevokedToken(1L, "jti-1", System.currentTimeMillis() + 60_000));
+        revokedTokenRegistry.synchronize();
+        available = false;
+
+        assertDoesNotThrow(revokedTokenRegistry::synchronize);
+
+        assertTrue(revokedTokenRegistry.isRevoked("jti-1"));
+    }
+
+}
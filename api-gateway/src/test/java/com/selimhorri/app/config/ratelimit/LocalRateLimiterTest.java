@@ -0,0 +1,62 @@
+package com.selimhorri.app.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LocalRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalRateLimiter localRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        localRateLimiter = new LocalRateLimiter(mock(ConfigurationService.class),
+                Caffeine.newBuilder().<String, TokenBucket>build(), meterRegistry, 1, 2);
+    }
+
+    @Test
+    void shouldRejectPastBurstWithRetryAfterInWholeSeconds() {
+        RateLimiter.Response first = localRateLimiter.isAllowed("ORDER-SERVICE", "user:isa").block();
+        localRateLimiter.isAllowed("ORDER-SERVICE", "user:isa").block();
+        RateLimiter.Response rejected = localRateLimiter.isAllowed("ORDER-SERVICE", "user:isa").block();
+
+        assertTrue(first.isAllowed());
+        assertEquals("1", first.getHeaders().get(LocalRateLimiter.REMAINING_HEADER));
+        assertFalse(first.getHeaders().containsKey(HttpHeaders.RETRY_AFTER));
+        assertFalse(rejected.isAllowed());
+        assertEquals("1", rejected.getHeaders().get(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerClient() {
+        localRateLimiter.isAllowed("ORDER-SERVICE", "user:isa").block();
+        localRateLimiter.isAllowed("ORDER-SERVICE", "user:isa").block();
+
+        assertTrue(localRateLimiter.isAllowed("ORDER-SERVICE", "user:ali").block().isAllowed());
+    }
+
+    @Test
+    void shouldRecordOccupancyIntoOneSummaryPerRoute() {
+        for (int i = 0; i < 5; i++)
+            localRateLimiter.isAllowed("ORDER-SERVICE", "user:" + i).block();
+        localRateLimiter.isAllowed("PAYMENT-SERVICE", "user:isa").block();
+
+        Collection<DistributionSummary> summaries = meterRegistry.find("gateway.rate.limiter.bucket.occupancy").summaries();
+        assertEquals(2, summaries.size());
+        assertEquals(5, meterRegistry.get("gateway.rate.limiter.bucket.occupancy")
+                .tag("route", "ORDER-SERVICE").summary().count());
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.selimhorri.app.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000_000L;
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstCapacityAtOnceAndNoMore() {
+        TokenBucket tokenBucket = new TokenBucket(START);
+
+        for (int i = 4; i >= 0; i--) {
+            TokenBucket.Consumption consumption = tokenBucket.tryConsume(START, 10, 5, 1);
+            assertTrue(consumption.isAllowed());
+            assertEquals(i, consumption.getRemainingTokens());
+        }
+
+        TokenBucket.Consumption rejected = tokenBucket.tryConsume(START, 10, 5, 1);
+        assertFalse(rejected.isAllowed());
+        assertEquals(0, rejected.getRemainingTokens());
+    }
+
+    @Test
+    void shouldRefillOneTokenPerReplenishInterval() {
+        TokenBucket tokenBucket = new TokenBucket(START);
+        drain(tokenBucket, START, 10, 5);
+
+        assertFalse(tokenBucket.tryConsume(START + 99 * MILLIS, 10, 5, 1).isAllowed());
+        assertTrue(tokenBucket.tryConsume(START + 100 * MILLIS, 10, 5, 1).isAllowed());
+        assertFalse(tokenBucket.tryConsume(START + 100 * MILLIS, 10, 5, 1).isAllowed());
+    }
+
+    @Test
+    void shouldNeverRefillBeyondBurstCapacity() {
+        TokenBucket tokenBucket = new TokenBucket(START);
+        long later = START + TimeUnit.MINUTES.toNanos(1);
+
+        assertEquals(5, drain(tokenBucket, later, 10, 5));
+    }
+
+    @Test
+    void shouldReportTimeUntilEnoughTokensAreBack() {
+        TokenBucket tokenBucket = new TokenBucket(START);
+        drain(tokenBucket, START, 10, 5);
+
+        assertEquals(100 * MILLIS, tokenBucket.tryConsume(START, 10, 5, 1).getRetryAfterNanos());
+        assertEquals(40 * MILLIS, tokenBucket.tryConsume(START + 60 * MILLIS, 10, 5, 1).getRetryAfterNanos());
+        assertEquals(200 * MILLIS, tokenBucket.tryConsume(START, 10, 5, 2).getRetryAfterNanos());
+    }
+
+    @Test
+    void shouldNotOverAllowUnderConcurrentAcquire() throws InterruptedException {
+        TokenBucket tokenBucket = new TokenBucket(START);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++)
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1_000; i++)
+                    if (tokenBucket.tryConsume(START, 10, 100, 1).isAllowed())
+                        allowed.incrementAndGet();
+            });
+        start.countDown();
+        executorService.shutdown();
+
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(100, allowed.get());
+    }
+
+    private static int drain(TokenBucket tokenBucket, long now, int replenishRate, int burstCapacity) {
+        int allowed = 0;
+        while (tokenBucket.tryConsume(now, replenishRate, burstCapacity, 1).isAllowed())
+            allowed++;
+        return allowed;
+    }
+
+}
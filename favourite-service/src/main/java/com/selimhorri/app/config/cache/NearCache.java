@@ -0,0 +1,130 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size-bounded, TTL-expiring in-process copy of remote DTOs keyed by id. 
+ * Entries are dropped early when the owning service announces a change.
+ * 
+ * <p>Each invalidation bumps the generation of the key's stripe; a load only 
+ * lands in the cache if no invalidation hit its stripe while it was in flight, 
+ * so a value read before a change cannot outlive the change's invalidation.
+ */
+public class NearCache<T> {
+	
+	private static final int GENERATION_STRIPES = 64;
+	
+	private final Cache<Integer, Entry<T>> cache;
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+	private final Ticker ticker;
+	private final Timer staleness;
+	
+	public NearCache(final String name, final long maximumSize, final Duration timeToLive, 
+			final MeterRegistry meterRegistry, final Ticker ticker) {
+		this.ticker = ticker;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(timeToLive)
+				.ticker(ticker)
+				.recordStats()
+				.build();
+		this.staleness = Timer.builder("cache.staleness")
+				.tag("cache", name)
+				.description("Age of near-cache entries at the time they are served")
+				.register(meterRegistry);
+		CaffeineCacheMetrics.monitor(meterRegistry, this.cache, name);
+	}
+	
+	public T get(final Integer id, final Function<Integer, T> loader) {
+		final Entry<T> entry = this.cache.getIfPresent(id);
+		if (entry != null)
+			return this.served(entry);
+		final long generation = this.generation(id);
+		final T value = loader.apply(id);
+		if (value != null)
+			this.put(id, value, generation);
+		return value;
+	}
+	
+	public Map<Integer, T> getAll(final Collection<Integer> ids, 
+			final Function<Set<Integer>, Map<Integer, T>> bulkLoader) {
+		final Map<Integer, T> found = new HashMap<>();
+		ids.forEach(id -> {
+			final Entry<T> entry = this.cache.getIfPresent(id);
+			if (entry != null)
+				found.put(id, this.served(entry));
+		});
+		final Map<Integer, Long> missing = ids.stream()
+				.filter(id -> !found.containsKey(id))
+				.distinct()
+				.collect(Collectors.toMap(Function.identity(), this::generation));
+		if (!missing.isEmpty())
+			bulkLoader.apply(missing.keySet()).forEach((id, value) -> {
+				if (missing.containsKey(id))
+					this.put(id, value, missing.get(id));
+				found.put(id, value);
+			});
+		return found;
+	}
+	
+	public void invalidate(final Integer id) {
+		this.generations.incrementAndGet(stripe(id));
+		this.cache.invalidate(id);
+	}
+	
+	/**
+	 * Checked under the entry's lock, so an invalidation either sees the new 
+	 * entry and removes it, or has already moved the generation past ours.
+	 */
+	private void put(final Integer id, final T value, final long generation) {
+		this.cache.asMap().compute(id, (key, current) -> 
+				this.generation(key) == generation ? this.entry(value) : current);
+	}
+	
+	private long generation(final Integer id) {
+		return this.generations.get(stripe(id));
+	}
+	
+	private static int stripe(final Integer id) {
+		return Math.floorMod(id.hashCode(), GENERATION_STRIPES);
+	}
+	
+	private Entry<T> entry(final T value) {
+		return new Entry<>(value, this.ticker.read());
+	}
+	
+	private T served(final Entry<T> entry) {
+		this.staleness.record(Duration.ofNanos(this.ticker.read() - entry.loadedAt));
+		return entry.value;
+	}
+	
+	private static final class Entry<T> {
+		
+		private final T value;
+		private final long loadedAt;
+		
+		private Entry(final T value, final long loadedAt) {
+			this.value = value;
+			this.loadedAt = loadedAt;
+		}
+		
+	}
+	
+	
+	
+}
@@ -1,12 +1,27 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 
 public interface FavouriteRepository extends JpaRepository<Favourite, FavouriteId> {
 	
-	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT f FROM Favourite f")
+	Stream<Favourite> streamAll();
 	
 }
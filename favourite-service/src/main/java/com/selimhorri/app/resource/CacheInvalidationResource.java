@@ -0,0 +1,38 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.config.cache.NearCache;
+import com.selimhorri.app.dto.ProductDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/cache")
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationResource {
+	
+	private final NearCache<ProductDto> productNearCache;
+	
+	@DeleteMapping("/products/{productId}")
+	public ResponseEntity<Boolean> invalidateProduct(
+			@PathVariable("productId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String productId) {
+		log.info("*** Boolean, resource; invalidate cached product *");
+		this.productNearCache.invalidate(Integer.parseInt(productId.strip()));
+		return ResponseEntity.ok(true);
+	}
+	
+	
+	
+}
@@ -1,18 +1,35 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.cache.NearCache;
+import com.selimhorri.app.config.client.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
@@ -29,38 +46,52 @@ public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final NearCache<ProductDto> productNearCache;
+	private final NearCache<UserDto> userNearCache;
+	
+	@PersistenceContext
+	private EntityManager entityManager;
 	
 	@Override
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		return this.enrich(this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public void streamAll(final Consumer<FavouriteDto> consumer) {
+		log.info("*** FavouriteDto Stream, service; stream all favourites *");
+		try (final Stream<Favourite> favourites = this.favouriteRepository.streamAll()) {
+			final List<FavouriteDto> chunk = new ArrayList<>(AppConstant.STREAM_CHUNK_SIZE);
+			favourites.forEach(row -> {
+				chunk.add(FavouriteMappingHelper.map(row));
+				if (chunk.size() == AppConstant.STREAM_CHUNK_SIZE) {
+					this.enrich(chunk).forEach(consumer);
+					chunk.clear();
+					this.entityManager.clear();
+				}
+			});
+			this.enrich(chunk).forEach(consumer);
+		}
+	}
+	
 	@Override
 	public FavouriteDto findById(final FavouriteId favouriteId) {
 		log.info("*** FavouriteDto, service; fetch favourite by id *");
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
 				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+					final CompletableFuture<UserDto> userDto = this.enrichmentExecutor.submit(() -> this.findUser(f));
+					final CompletableFuture<ProductDto> productDto = this.enrichmentExecutor.submit(() -> this.findProduct(f));
+					f.setUserDto(EnrichmentExecutor.join(userDto, f::getUserDto));
+					f.setProductDto(EnrichmentExecutor.join(productDto, f::getProductDto));
 					return f;
 				})
 				.orElseThrow(() -> new FavouriteNotFoundException(
@@ -84,6 +115,94 @@ public class FavouriteServiceImpl implements FavouriteService {
 		this.favouriteRepository.deleteById(favouriteId);
 	}
 	
+	private List<FavouriteDto> enrich(final List<FavouriteDto> favouriteDtos) {
+		if (favouriteDtos.isEmpty())
+			return favouriteDtos;
+		final CompletableFuture<Map<Integer, UserDto>> userDtos = this.enrichmentExecutor.submit(() -> this.userNearCache
+				.getAll(favouriteDtos.stream()
+					.map(FavouriteDto::getUserId)
+					.collect(Collectors.toUnmodifiableSet()), 
+				userIds -> this.fetchAllByIds(
+					AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, 
+					userIds, 
+					new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {}, 
+					UserDto::getUserId)));
+		final CompletableFuture<Map<Integer, ProductDto>> productDtos = this.enrichmentExecutor.submit(() -> this.productNearCache
+				.getAll(favouriteDtos.stream()
+					.map(FavouriteDto::getProductId)
+					.collect(Collectors.toUnmodifiableSet()), 
+				productIds -> this.fetchAllByIds(
+					AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+					productIds, 
+					new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {}, 
+					ProductDto::getProductId)));
+		final Map<Integer, UserDto> userDtosById = EnrichmentExecutor.join(userDtos, Map::of);
+		final Map<Integer, ProductDto> productDtosById = EnrichmentExecutor.join(productDtos, Map::of);
+		favouriteDtos.forEach(f -> {
+			f.setUserDto(userDtosById.getOrDefault(f.getUserId(), f.getUserDto()));
+			f.setProductDto(productDtosById.getOrDefault(f.getProductId(), f.getProductDto()));
+		});
+		return favouriteDtos;
+	}
+	
+	/**
+	 * Near-cache hits are served even while user-service is unreachable; a miss then 
+	 * degrades to the id-only user instead of failing the whole favourite.
+	 */
+	private UserDto findUser(final FavouriteDto favouriteDto) {
+		try {
+			return this.userNearCache.get(favouriteDto.getUserId(), this::fetchUser);
+		}
+		catch (RestClientException e) {
+			log.warn("*** UserDto, service; user {} unavailable, degrading: {} *", favouriteDto.getUserId(), e.getMessage());
+			return favouriteDto.getUserDto();
+		}
+	}
+	
+	private ProductDto findProduct(final FavouriteDto favouriteDto) {
+		try {
+			return this.productNearCache.get(favouriteDto.getProductId(), this::fetchProduct);
+		}
+		catch (RestClientException e) {
+			log.warn("*** ProductDto, service; product {} unavailable, degrading: {} *", favouriteDto.getProductId(), e.getMessage());
+			return favouriteDto.getProductDto();
+		}
+	}
+	
+	private UserDto fetchUser(final Integer userId) {
+		return this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.USER_SERVICE_API_URL + "/" + userId, UserDto.class);
+	}
+	
+	private ProductDto fetchProduct(final Integer productId) {
+		return this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class);
+	}
+	
+	private <T> Map<Integer, T> fetchAllByIds(final String apiUrl, final Collection<Integer> ids, 
+			final ParameterizedTypeReference<DtoCollectionResponse<T>> responseType, 
+			final Function<T, Integer> idExtractor) {
+		if (ids.isEmpty())
+			return Map.of();
+		final String joinedIds = ids.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+		try {
+			return Optional.ofNullable(this.restTemplate
+						.exchange(apiUrl + "?ids=" + joinedIds, HttpMethod.GET, null, responseType)
+						.getBody())
+					.map(DtoCollectionResponse::getCollection)
+					.map(c -> c.stream()
+							.collect(Collectors.toMap(idExtractor, Function.identity(), (d1, d2) -> d1)))
+					.orElseGet(Map::of);
+		}
+		catch (RestClientException e) {
+			// nothing is cached, so the next lookup retries once the breaker lets it
+			log.warn("*** Dto Map, service; {} {} unavailable, degrading: {} *", apiUrl, joinedIds, e.getMessage());
+			return Map.of();
+		}
+	}
+	
 	
 	
 }
@@ -0,0 +1,122 @@
+package com.selimhorri.app.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearCacheTest {
+
+    private AtomicLong nanos;
+    private MeterRegistry meterRegistry;
+    private NearCache<String> nearCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = new NearCache<>("products", 100, Duration.ofMinutes(5), meterRegistry, nanos::get);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        assertEquals("product-1", nearCache.get(1, this::load));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertEquals("product-1", nearCache.get(1, this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, meterRegistry.get("cache.staleness").tag("cache", "products").timer().count());
+        assertEquals(30.0, meterRegistry.get("cache.staleness").timer().max(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        nearCache.get(1, this::load);
+        nearCache.invalidate(1);
+        nearCache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldReloadAfterTimeToLive() {
+        nearCache.get(1, this::load);
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        nearCache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldBulkLoadOnlyMissingIds() {
+        nearCache.get(1, this::load);
+
+        AtomicInteger bulkCalls = new AtomicInteger();
+        Function<Set<Integer>, Map<Integer, String>> bulkLoader = ids -> {
+            bulkCalls.incrementAndGet();
+            assertEquals(Set.of(2, 3), ids);
+            return ids.stream().collect(Collectors.toMap(Function.identity(), this::load));
+        };
+
+        Map<Integer, String> result = nearCache.getAll(List.of(1, 2, 3), bulkLoader);
+
+        assertEquals(Map.of(1, "product-1", 2, "product-2", 3, "product-3"), result);
+        assertEquals(1, bulkCalls.get());
+        assertEquals(3, loads.get());
+
+        nearCache.getAll(List.of(1, 2, 3), ids -> fail("all ids should be cached"));
+    }
+
+    @Test
+    void shouldNotCacheLoadOverlappingInvalidation() {
+        assertEquals("stale-1", nearCache.get(1, id -> {
+            nearCache.invalidate(id);
+            return "stale-" + id;
+        }));
+
+        assertEquals("product-1", nearCache.get(1, this::load));
+        assertEquals("product-1", nearCache.get(1, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheBulkLoadOverlappingInvalidation() {
+        Map<Integer, String> result = nearCache.getAll(List.of(1, 2), ids -> {
+            nearCache.invalidate(1);
+            return ids.stream().collect(Collectors.toMap(Function.identity(), id -> "stale-" + id));
+        });
+
+        assertEquals(Map.of(1, "stale-1", 2, "stale-2"), result);
+        assertEquals("product-1", nearCache.get(1, this::load));
+        assertEquals("stale-2", nearCache.get(2, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldKeepCachingAfterEarlierInvalidation() {
+        nearCache.invalidate(1);
+        nearCache.get(1, this::load);
+        nearCache.get(1, this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    private String load(Integer id) {
+        loads.incrementAndGet();
+        return "product-" + id;
+    }
+}
@@ -0,0 +1,139 @@
+package com.selimhorri.app.config.client;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerInterceptor;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerProperties;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.cloud.loadbalancer.blocking.client.BlockingLoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CircuitBreakerInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ClientHttpRequestExecution execution;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        execution = mock(ClientHttpRequestExecution.class);
+    }
+
+    @Test
+    void shouldOpenOnServerErrorsAndRejectWithoutCallingDownstream() throws Exception {
+        when(execution.execute(any(), any())).thenAnswer(invocation ->
+                new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+        CircuitBreakerInterceptor interceptor = new CircuitBreakerInterceptor(circuitBreakerRegistry, 10, Duration.ZERO, meterRegistry);
+
+        interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution);
+        interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("userService").getState());
+        assertThrows(IOException.class,
+                () -> interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution));
+        verify(execution, times(2)).execute(any(), any());
+        assertEquals(1.0, meterRegistry.counter("http.client.requests.rejected",
+                "clientName", "USER-SERVICE", "reason", "circuit-open").count());
+    }
+
+    @Test
+    void shouldNotCountClientErrorsAgainstTheBreaker() throws Exception {
+        when(execution.execute(any(), any())).thenAnswer(invocation ->
+                new MockClientHttpResponse(new byte[0], HttpStatus.NOT_FOUND));
+        CircuitBreakerInterceptor interceptor = new CircuitBreakerInterceptor(circuitBreakerRegistry, 10, Duration.ZERO, meterRegistry);
+
+        for (int i = 0; i < 5; i++)
+            interceptor.intercept(get("http://PRODUCT-SERVICE/product-service/api/products/1"), new byte[0], execution);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("productService").getState());
+        verify(execution, times(5)).execute(any(), any());
+    }
+
+    @Test
+    void shouldCountIoFailuresAndKeepBreakersPerService() throws Exception {
+        when(execution.execute(any(), any())).thenThrow(new IOException("Connection refused"));
+        CircuitBreakerInterceptor interceptor = new CircuitBreakerInterceptor(circuitBreakerRegistry, 10, Duration.ZERO, meterRegistry);
+
+        assertThrows(IOException.class,
+                () -> interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution));
+        assertThrows(IOException.class,
+                () -> interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution));
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("userService").getState());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker("productService").getState());
+    }
+
+    @Test
+    void shouldRejectWhenNoCallSlotIsFree() throws Exception {
+        CircuitBreakerInterceptor interceptor = new CircuitBreakerInterceptor(circuitBreakerRegistry, 0, Duration.ofMillis(10), meterRegistry);
+
+        assertThrows(IOException.class,
+                () -> interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution));
+
+        verifyNoInteractions(execution);
+        assertEquals(0, circuitBreakerRegistry.circuitBreaker("userService").getMetrics().getNumberOfBufferedCalls());
+        assertEquals(1.0, meterRegistry.counter("http.client.requests.rejected",
+                "clientName", "USER-SERVICE", "reason", "bulkhead-full").count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSurfaceServiceWithoutInstancesAsResourceAccessFailure() {
+        ReactiveLoadBalancer<ServiceInstance> loadBalancer = mock(ReactiveLoadBalancer.class);
+        when(loadBalancer.choose(any())).thenAnswer(invocation -> Mono.just(new EmptyResponse()));
+        LoadBalancerClientFactory loadBalancerClientFactory = mock(LoadBalancerClientFactory.class);
+        when(loadBalancerClientFactory.getInstance("USER-SERVICE")).thenReturn(loadBalancer);
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(
+                new CircuitBreakerInterceptor(circuitBreakerRegistry, 10, Duration.ZERO, meterRegistry),
+                new LoadBalancerInterceptor(new BlockingLoadBalancerClient(loadBalancerClientFactory, new LoadBalancerProperties()))));
+
+        ResourceAccessException e = assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject("http://USER-SERVICE/user-service/api/users/1", String.class));
+
+        assertTrue(e.getMessage().contains("No instances available for USER-SERVICE"));
+        assertEquals(1, circuitBreakerRegistry.circuitBreaker("userService").getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void shouldMapServiceIdsToCamelCaseInstanceNames() {
+        assertEquals("userService", CircuitBreakerInterceptor.circuitBreakerName("USER-SERVICE"));
+        assertEquals("productService", CircuitBreakerInterceptor.circuitBreakerName("PRODUCT-SERVICE"));
+        assertEquals("gateway", CircuitBreakerInterceptor.circuitBreakerName("gateway"));
+    }
+
+    private static MockClientHttpRequest get(String uri) {
+        return new MockClientHttpRequest(HttpMethod.GET, URI.create(uri));
+    }
+}
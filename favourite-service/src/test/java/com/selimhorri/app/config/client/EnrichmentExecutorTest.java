@@ -0,0 +1,89 @@
+package com.selimhorri.app.config.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnrichmentExecutorTest {
+
+    private ExecutorService executorService;
+    private EnrichmentExecutor enrichmentExecutor;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(2);
+        enrichmentExecutor = new EnrichmentExecutor(executorService, Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void shouldRunIndependentLookupsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        CompletableFuture<String> first = enrichmentExecutor.submit(() -> awaitOther(bothStarted, "user"));
+        CompletableFuture<String> second = enrichmentExecutor.submit(() -> awaitOther(bothStarted, "product"));
+
+        assertEquals("user", EnrichmentExecutor.join(first));
+        assertEquals("product", EnrichmentExecutor.join(second));
+    }
+
+    @Test
+    void shouldRethrowLookupFailureUnwrapped() {
+        CompletableFuture<String> lookup = enrichmentExecutor.submit(() -> {
+            throw new IllegalStateException("downstream down");
+        });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> EnrichmentExecutor.join(lookup));
+        assertEquals("downstream down", e.getMessage());
+    }
+
+    @Test
+    void shouldTimeOutSlowLookup() {
+        CompletableFuture<String> lookup = enrichmentExecutor.submit(() -> awaitOther(new CountDownLatch(2), "never"));
+
+        assertThrows(ResourceAccessException.class, () -> EnrichmentExecutor.join(lookup));
+    }
+
+    @Test
+    void shouldDegradeTimedOutLookupToFallback() {
+        CompletableFuture<String> lookup = enrichmentExecutor.submit(() -> awaitOther(new CountDownLatch(2), "never"));
+
+        assertEquals("id-only", EnrichmentExecutor.join(lookup, () -> "id-only"));
+    }
+
+    @Test
+    void shouldNotDegradeUnrelatedLookupFailure() {
+        CompletableFuture<String> lookup = enrichmentExecutor.submit(() -> {
+            throw new IllegalStateException("bug");
+        });
+
+        assertThrows(IllegalStateException.class, () -> EnrichmentExecutor.join(lookup, () -> "id-only"));
+    }
+
+    private static String awaitOther(CountDownLatch latch, String value) {
+        latch.countDown();
+        try {
+            if (!latch.await(2, TimeUnit.SECONDS))
+                return "timeout";
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,86 @@
+package com.selimhorri.app.config.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RequestScopedMemoInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+    private RequestScopedMemoInterceptor interceptor;
+    private ClientHttpRequestExecution execution;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new RequestScopedMemoInterceptor(meterRegistry);
+        execution = mock(ClientHttpRequestExecution.class);
+        when(execution.execute(any(), any())).thenAnswer(invocation ->
+                new MockClientHttpResponse("{\"userId\":1}".getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldCollapseIdenticalGetsWithinOneRequest() throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        ClientHttpResponse first = interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution);
+        ClientHttpResponse second = interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution);
+
+        assertEquals("{\"userId\":1}", StreamUtils.copyToString(first.getBody(), StandardCharsets.UTF_8));
+        assertEquals("{\"userId\":1}", StreamUtils.copyToString(second.getBody(), StandardCharsets.UTF_8));
+        verify(execution, times(1)).execute(any(), any());
+        assertEquals(1.0, meterRegistry.counter("http.client.requests.memo", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("http.client.requests.memo", "result", "miss").count());
+    }
+
+    @Test
+    void shouldNotShareMemoAcrossRequests() throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution);
+
+        verify(execution, times(2)).execute(any(), any());
+    }
+
+    @Test
+    void shouldPassThroughOutsideRequestAndForNonGets() throws Exception {
+        interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution);
+        interceptor.intercept(get("http://USER-SERVICE/user-service/api/users/1"), new byte[0], execution);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        MockClientHttpRequest post = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://USER-SERVICE/user-service/api/users"));
+        interceptor.intercept(post, new byte[0], execution);
+        interceptor.intercept(post, new byte[0], execution);
+
+        verify(execution, times(4)).execute(any(), any());
+    }
+
+    private static MockClientHttpRequest get(String uri) {
+        return new MockClientHttpRequest(HttpMethod.GET, URI.create(uri));
+    }
+}
@@ -1,22 +1,34 @@
 package com.selimhorri.app.service.impl;
 
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.selimhorri.app.config.cache.NearCache;
+import com.selimhorri.app.config.client.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,7 +43,10 @@ class FavouriteServiceImplTest {
     void setUp() {
         favouriteRepository = mock(FavouriteRepository.class);
         restTemplate = mock(RestTemplate.class);
-        favouriteService = new FavouriteServiceImpl(favouriteRepository, restTemplate);
+        favouriteService = new FavouriteServiceImpl(favouriteRepository, restTemplate,
+                new EnrichmentExecutor(Runnable::run, Duration.ofSeconds(2)),
+                new NearCache<>("products", 100, Duration.ofMinutes(5), new SimpleMeterRegistry(), Ticker.systemTicker()),
+                new NearCache<>("users", 100, Duration.ofMinutes(5), new SimpleMeterRegistry(), Ticker.systemTicker()));
     }
 
     @Test
@@ -46,14 +61,12 @@ class FavouriteServiceImplTest {
         ProductDto productDto2 = ProductDto.builder().productId(102).productTitle("Product 2").build();
 
         when(favouriteRepository.findAll()).thenReturn(Arrays.asList(favourite1, favourite2));
-        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/1", UserDto.class))
-                .thenReturn(userDto1);
-        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/2", UserDto.class))
-                .thenReturn(userDto2);
-        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/101", ProductDto.class))
-                .thenReturn(productDto1);
-        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/102", ProductDto.class))
-                .thenReturn(productDto2);
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(userDto1, userDto2))));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(productDto1, productDto2))));
 
         FavouriteDto dto1 = FavouriteDto.builder()
                 .userId(1)
@@ -77,8 +90,12 @@ class FavouriteServiceImplTest {
             assertEquals("Isa", result.get(0).getUserDto().getFirstName());
             assertEquals("Product 1", result.get(0).getProductDto().getProductTitle());
             verify(favouriteRepository, times(1)).findAll();
-            verify(restTemplate, times(2)).getForObject(contains(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL), eq(UserDto.class));
-            verify(restTemplate, times(2)).getForObject(contains(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL), eq(ProductDto.class));
+            verify(restTemplate, times(1)).exchange(startsWith(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids="),
+                    eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+            verify(restTemplate, never()).getForObject(contains(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL), eq(UserDto.class));
+            verify(restTemplate, times(1)).exchange(startsWith(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids="),
+                    eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+            verify(restTemplate, never()).getForObject(contains(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL), eq(ProductDto.class));
         }
     }
 
@@ -195,6 +212,48 @@ class FavouriteServiceImplTest {
         assertEquals(0, result.size());
         verify(favouriteRepository, times(1)).findAll();
         verify(restTemplate, never()).getForObject(anyString(), any());
+        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void shouldFetchProductsOnceForRepeatedProductIds() {
+        Favourite favourite1 = mock(Favourite.class);
+        Favourite favourite2 = mock(Favourite.class);
+
+        UserDto userDto1 = UserDto.builder().userId(1).firstName("Isa").build();
+        UserDto userDto2 = UserDto.builder().userId(2).firstName("Carlos").build();
+        ProductDto productDto = ProductDto.builder().productId(101).productTitle("Product 1").build();
+
+        when(favouriteRepository.findAll()).thenReturn(Arrays.asList(favourite1, favourite2));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(userDto1, userDto2))));
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids=101"),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(productDto))));
+
+        FavouriteDto dto1 = FavouriteDto.builder()
+                .userId(1)
+                .productId(101)
+                .build();
+
+        FavouriteDto dto2 = FavouriteDto.builder()
+                .userId(2)
+                .productId(101)
+                .build();
+
+        try (MockedStatic<FavouriteMappingHelper> mocked = mockStatic(FavouriteMappingHelper.class)) {
+            mocked.when(() -> FavouriteMappingHelper.map(favourite1)).thenReturn(dto1);
+            mocked.when(() -> FavouriteMappingHelper.map(favourite2)).thenReturn(dto2);
+
+            List<FavouriteDto> result = favouriteService.findAll();
+
+            assertEquals(2, result.size());
+            assertEquals("Product 1", result.get(0).getProductDto().getProductTitle());
+            assertEquals("Product 1", result.get(1).getProductDto().getProductTitle());
+            verify(restTemplate, times(1)).exchange(startsWith(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL),
+                    eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        }
     }
 
     @Test
@@ -205,10 +264,12 @@ class FavouriteServiceImplTest {
         ProductDto productDto = ProductDto.builder().productId(205).productTitle("Special Product").build();
 
         when(favouriteRepository.findAll()).thenReturn(Arrays.asList(favourite));
-        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/5", UserDto.class))
-                .thenReturn(userDto);
-        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/205", ProductDto.class))
-                .thenReturn(productDto);
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids=5"),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(userDto))));
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids=205"),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(productDto))));
 
         FavouriteDto dto = FavouriteDto.builder()
                 .userId(5)
@@ -227,4 +288,72 @@ class FavouriteServiceImplTest {
             assertEquals("Special Product", result.get(0).getProductDto().getProductTitle());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStreamFavouritesWithUsersAndProductsBatchedPerChunk() {
+        Favourite favourite1 = mock(Favourite.class);
+        Favourite favourite2 = mock(Favourite.class);
+        Favourite favourite3 = mock(Favourite.class);
+
+        UserDto userDto1 = UserDto.builder().userId(1).firstName("Isa").build();
+        UserDto userDto2 = UserDto.builder().userId(2).firstName("Carlos").build();
+        ProductDto productDto = ProductDto.builder().productId(101).productTitle("Product 1").build();
+
+        when(favouriteRepository.streamAll()).thenReturn(Stream.of(favourite1, favourite2, favourite3));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(userDto1, userDto2))));
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids=101"),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(productDto))));
+
+        try (MockedStatic<FavouriteMappingHelper> mocked = mockStatic(FavouriteMappingHelper.class)) {
+            mocked.when(() -> FavouriteMappingHelper.map(favourite1)).thenReturn(FavouriteDto.builder().userId(1).productId(101).build());
+            mocked.when(() -> FavouriteMappingHelper.map(favourite2)).thenReturn(FavouriteDto.builder().userId(2).productId(101).build());
+            mocked.when(() -> FavouriteMappingHelper.map(favourite3)).thenReturn(FavouriteDto.builder().userId(1).productId(101).build());
+
+            List<FavouriteDto> streamed = new ArrayList<>();
+            favouriteService.streamAll(streamed::add);
+
+            assertEquals(3, streamed.size());
+            assertEquals("Isa", streamed.get(0).getUserDto().getFirstName());
+            assertEquals("Carlos", streamed.get(1).getUserDto().getFirstName());
+            assertEquals("Isa", streamed.get(2).getUserDto().getFirstName());
+            verify(restTemplate, times(1)).exchange(startsWith(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids="),
+                    eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+            verify(restTemplate, never()).getForObject(anyString(), eq(UserDto.class));
+        }
+    }
+
+    @Test
+    void shouldDegradeToIdOnlyReferencesWhenDownstreamIsUnavailable() {
+        Favourite favourite = mock(Favourite.class);
+
+        FavouriteDto dto = FavouriteDto.builder()
+                .userId(1)
+                .productId(101)
+                .userDto(UserDto.builder().userId(1).build())
+                .productDto(ProductDto.builder().productId(101).build())
+                .build();
+
+        when(favouriteRepository.findAll()).thenReturn(Arrays.asList(favourite));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new ResourceAccessException("Circuit breaker userService is OPEN"));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new ResourceAccessException("Circuit breaker productService is OPEN"));
+
+        try (MockedStatic<FavouriteMappingHelper> mocked = mockStatic(FavouriteMappingHelper.class)) {
+            mocked.when(() -> FavouriteMappingHelper.map(favourite)).thenReturn(dto);
+
+            List<FavouriteDto> result = favouriteService.findAll();
+
+            assertEquals(1, result.size());
+            assertEquals(1, result.get(0).getUserDto().getUserId());
+            assertNull(result.get(0).getUserDto().getFirstName());
+            assertEquals(101, result.get(0).getProductDto().getProductId());
+            assertNull(result.get(0).getProductDto().getProductTitle());
+        }
+    }
+}
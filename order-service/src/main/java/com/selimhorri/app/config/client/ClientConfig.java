@@ -1,17 +1,34 @@
 package com.selimhorri.app.config.client;
 
+import java.time.Duration;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class ClientConfig {
 	
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public RestTemplate restTemplateBean(final RestTemplateBuilder restTemplateBuilder, 
+			final CloseableHttpClient pooledHttpClient, final MeterRegistry meterRegistry, 
+			final CircuitBreakerRegistry circuitBreakerRegistry, 
+			@Value("${app.http-client.bulkhead.max-concurrent-calls:20}") final int maxConcurrentCalls, 
+			@Value("${app.http-client.bulkhead.max-wait:100ms}") final Duration maxWait) {
+		return restTemplateBuilder
+				.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(pooledHttpClient))
+				.additionalInterceptors(new RequestScopedMemoInterceptor(meterRegistry), 
+						new CircuitBreakerInterceptor(circuitBreakerRegistry, maxConcurrentCalls, maxWait, meterRegistry))
+				.build();
 	}
 	
 	
@@ -1,9 +1,13 @@
 package com.selimhorri.app.resource;
 
+import java.util.Set;
+
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +16,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.StreamingDtoCollectionResponse;
 import com.selimhorri.app.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderResource {
 	
 	private final OrderService orderService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll() {
@@ -35,6 +44,23 @@ public class OrderResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
 	}
 	
+	@GetMapping(params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** OrderDto Stream, controller; stream all orders *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(new StreamingDtoCollectionResponse<>(this.objectMapper, this.orderService::streamAll));
+	}
+	
+	@GetMapping(params = "ids")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAllByIds(
+			@RequestParam("ids") 
+			@NotEmpty(message = "Input must not be empty") 
+			@Valid final Set<Integer> orderIds) {
+		log.info("*** OrderDto List, resource; fetch orders by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAllByIds(orderIds)));
+	}
+	
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> findById(
 			@PathVariable("orderId") 
@@ -1,13 +1,17 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	void streamAll(final Consumer<OrderDto> consumer);
 	OrderDto findById(final Integer orderId);
+	List<OrderDto> findAllByIds(final Collection<Integer> orderIds);
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
 	OrderDto update(final Integer orderId, final OrderDto orderDto);
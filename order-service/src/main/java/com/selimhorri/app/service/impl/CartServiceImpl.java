@@ -1,16 +1,23 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
@@ -31,14 +38,11 @@ public class CartServiceImpl implements CartService {
 	@Override
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		return this.enrich(this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
@@ -49,8 +53,7 @@ public class CartServiceImpl implements CartService {
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
 				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
+					c.setUserDto(this.findUser(c.getUserDto()));
 					return c;
 				})
 				.orElseThrow(() -> new CartNotFoundException(String
@@ -84,6 +87,54 @@ public class CartServiceImpl implements CartService {
 		this.cartRepository.deleteById(cartId);
 	}
 	
+	private List<CartDto> enrich(final List<CartDto> cartDtos) {
+		if (cartDtos.isEmpty())
+			return cartDtos;
+		final String ids = cartDtos.stream()
+				.map(c -> c.getUserDto().getUserId())
+				.distinct()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+		final Map<Integer, UserDto> userDtos = this.fetchUsersByIds(ids);
+		cartDtos.forEach(c -> c.setUserDto(userDtos
+				.getOrDefault(c.getUserDto().getUserId(), c.getUserDto())));
+		return cartDtos;
+	}
+	
+	/**
+	 * Falls back to the id-only user the cart already carries when user-service 
+	 * fails or its circuit breaker is open.
+	 */
+	private UserDto findUser(final UserDto userDto) {
+		try {
+			return this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+					.USER_SERVICE_API_URL + "/" + userDto.getUserId(), UserDto.class);
+		}
+		catch (RestClientException e) {
+			log.warn("*** UserDto, service; user {} unavailable, degrading: {} *", userDto.getUserId(), e.getMessage());
+			return userDto;
+		}
+	}
+	
+	private Map<Integer, UserDto> fetchUsersByIds(final String ids) {
+		try {
+			return Optional.ofNullable(this.restTemplate
+						.exchange(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids=" + ids, 
+								HttpMethod.GET, 
+								null, 
+								new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {})
+						.getBody())
+					.map(DtoCollectionResponse::getCollection)
+					.map(c -> c.stream()
+							.collect(Collectors.toMap(UserDto::getUserId, Function.identity(), (u1, u2) -> u1)))
+					.orElseGet(Map::of);
+		}
+		catch (RestClientException e) {
+			log.warn("*** UserDto Map, service; users {} unavailable, degrading: {} *", ids, e.getMessage());
+			return Map.of();
+		}
+	}
+	
 	
 	
 }
@@ -1,12 +1,19 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
@@ -24,6 +31,9 @@ public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
 	
+	@PersistenceContext
+	private EntityManager entityManager;
+	
 	@Override
 	public List<OrderDto> findAll() {
 		log.info("*** OrderDto List, service; fetch all orders *");
@@ -34,6 +44,19 @@ public class OrderServiceImpl implements OrderService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public void streamAll(final Consumer<OrderDto> consumer) {
+		log.info("*** OrderDto Stream, service; stream all orders *");
+		try (final Stream<Order> orders = this.orderRepository.streamAll()) {
+			final var rows = orders.iterator();
+			for (int i = 1; rows.hasNext(); i++) {
+				consumer.accept(OrderMappingHelper.map(rows.next()));
+				if (i % AppConstant.STREAM_CHUNK_SIZE == 0)
+					this.entityManager.clear();
+			}
+		}
+	}
+	
 	@Override
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
@@ -43,6 +66,16 @@ public class OrderServiceImpl implements OrderService {
 						.format("Order with id: %d not found", orderId)));
 	}
 	
+	@Override
+	public List<OrderDto> findAllByIds(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto List, service; fetch orders by ids *");
+		return this.orderRepository.findAllByOrderIdIn(orderIds)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public OrderDto save(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; save order *");
@@ -4,12 +4,17 @@ import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Arrays;
@@ -51,10 +56,9 @@ class CartServiceImplTest {
                 .build();
 
         when(cartRepository.findAll()).thenReturn(Arrays.asList(cart1, cart2));
-        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/1", UserDto.class))
-                .thenReturn(userDto1);
-        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/2", UserDto.class))
-                .thenReturn(userDto2);
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids=1,2"),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(userDto1, userDto2))));
 
         try (MockedStatic<CartMappingHelper> mocked = mockStatic(CartMappingHelper.class)) {
             mocked.when(() -> CartMappingHelper.map(cart1)).thenReturn(dto1);
@@ -66,7 +70,8 @@ class CartServiceImplTest {
             assertEquals("Isa", result.get(0).getUserDto().getFirstName());
             assertEquals("Carlos", result.get(1).getUserDto().getFirstName());
             verify(cartRepository, times(1)).findAll();
-            verify(restTemplate, times(2)).getForObject(contains(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL), eq(UserDto.class));
+            verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+            verify(restTemplate, never()).getForObject(contains(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL), eq(UserDto.class));
         }
     }
 
@@ -215,5 +220,26 @@ class CartServiceImplTest {
         assertEquals(0, result.size());
         verify(cartRepository, times(1)).findAll();
         verify(restTemplate, never()).getForObject(anyString(), any());
+        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void shouldKeepIdOnlyUserWhenUserServiceIsUnavailable() {
+        Cart cart = Cart.builder().cartId(1).userId(1).build();
+
+        when(cartRepository.findById(1)).thenReturn(Optional.of(cart));
+        when(cartRepository.findAll()).thenReturn(Arrays.asList(cart));
+        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/1", UserDto.class))
+                .thenThrow(new ResourceAccessException("Circuit breaker userService is OPEN"));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new ResourceAccessException("Circuit breaker userService is OPEN"));
+
+        CartDto byId = cartService.findById(1);
+        List<CartDto> all = cartService.findAll();
+
+        assertEquals(1, byId.getUserDto().getUserId());
+        assertNull(byId.getUserDto().getFirstName());
+        assertEquals(1, all.size());
+        assertEquals(1, all.get(0).getUserDto().getUserId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.web.client.RestTemplateExchangeTags;
+import org.springframework.boot.actuate.metrics.web.client.RestTemplateExchangeTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+@Configuration
+public class HttpClientConfig {
+	
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager pooledConnectionManager(
+			@Value("${app.http-client.max-total-connections:200}") final int maxTotalConnections, 
+			@Value("${app.http-client.max-connections-per-route:50}") final int maxConnectionsPerRoute, 
+			@Value("${app.http-client.time-to-live:5m}") final Duration timeToLive, 
+			final MeterRegistry meterRegistry) {
+		final PoolingHttpClientConnectionManager connectionManager = 
+				new PoolingHttpClientConnectionManager(timeToLive.toMillis(), TimeUnit.MILLISECONDS);
+		connectionManager.setMaxTotal(maxTotalConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+		connectionManager.setValidateAfterInactivity(2000);
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "downstream")
+				.bindTo(meterRegistry);
+		return connectionManager;
+	}
+	
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient pooledHttpClient(
+			final PoolingHttpClientConnectionManager pooledConnectionManager, 
+			@Value("${app.http-client.connect-timeout:2s}") final Duration connectTimeout, 
+			@Value("${app.http-client.read-timeout:5s}") final Duration readTimeout, 
+			@Value("${app.http-client.connection-request-timeout:1s}") final Duration connectionRequestTimeout) {
+		return HttpClients.custom()
+				.setConnectionManager(pooledConnectionManager)
+				.setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) connectTimeout.toMillis())
+						.setSocketTimeout((int) readTimeout.toMillis())
+						.setConnectionRequestTimeout((int) connectionRequestTimeout.toMillis())
+						.build())
+				.evictIdleConnections(30L, TimeUnit.SECONDS)
+				.build();
+	}
+	
+	/**
+	 * Tags client timers by downstream service rather than by expanded URI, 
+	 * keeping one latency/error series per target.
+	 */
+	@Bean
+	public RestTemplateExchangeTagsProvider downstreamExchangeTagsProvider() {
+		return (urlTemplate, request, response) -> Tags.of(
+				RestTemplateExchangeTags.method(request), 
+				RestTemplateExchangeTags.clientName(request), 
+				RestTemplateExchangeTags.status(response), 
+				RestTemplateExchangeTags.outcome(response));
+	}
+	
+	
+	
+}
@@ -0,0 +1,143 @@
+package com.selimhorri.app.config.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Collapses identical GETs issued while serving one inbound request, 
+ * so an enrichment loop hits each downstream URL at most once.
+ */
+public class RequestScopedMemoInterceptor implements ClientHttpRequestInterceptor {
+	
+	private static final String MEMO_ATTRIBUTE = RequestScopedMemoInterceptor.class.getName() + ".MEMO";
+	
+	private final Counter hits;
+	private final Counter misses;
+	
+	public RequestScopedMemoInterceptor(final MeterRegistry meterRegistry) {
+		this.hits = Counter.builder("http.client.requests.memo")
+				.tag("result", "hit")
+				.description("Downstream GETs answered from the request-scoped memo")
+				.register(meterRegistry);
+		this.misses = Counter.builder("http.client.requests.memo")
+				.tag("result", "miss")
+				.description("Downstream GETs sent because the request-scoped memo had no entry")
+				.register(meterRegistry);
+	}
+	
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, 
+			final ClientHttpRequestExecution execution) throws IOException {
+		
+		final Map<String, MemoizedResponse> memo = memo();
+		if (memo == null || request.getMethod() != HttpMethod.GET)
+			return execution.execute(request, body);
+		
+		final String key = request.getURI().toString();
+		final MemoizedResponse memoized = memo.get(key);
+		if (memoized != null) {
+			this.hits.increment();
+			return memoized;
+		}
+		
+		this.misses.increment();
+		try (final ClientHttpResponse response = execution.execute(request, body)) {
+			final MemoizedResponse fresh = new MemoizedResponse(response.getRawStatusCode(), 
+					response.getStatusText(), 
+					HttpHeaders.readOnlyHttpHeaders(response.getHeaders()), 
+					StreamUtils.copyToByteArray(response.getBody()));
+			if (HttpStatus.Series.resolve(fresh.getRawStatusCode()) == HttpStatus.Series.SUCCESSFUL)
+				memo.put(key, fresh);
+			return fresh;
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static Map<String, MemoizedResponse> memo() {
+		final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null)
+			return null;
+		synchronized (requestAttributes) {
+			try {
+				Map<String, MemoizedResponse> memo = (Map<String, MemoizedResponse>) requestAttributes
+						.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+				if (memo == null) {
+					memo = new ConcurrentHashMap<>();
+					requestAttributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+				}
+				return memo;
+			}
+			catch (IllegalStateException e) {
+				// inbound request already completed (e.g. a lookup outliving its timeout)
+				return null;
+			}
+		}
+	}
+	
+	private static final class MemoizedResponse implements ClientHttpResponse {
+		
+		private final int rawStatusCode;
+		private final String statusText;
+		private final HttpHeaders headers;
+		private final byte[] body;
+		
+		private MemoizedResponse(final int rawStatusCode, final String statusText, 
+				final HttpHeaders headers, final byte[] body) {
+			this.rawStatusCode = rawStatusCode;
+			this.statusText = statusText;
+			this.headers = headers;
+			this.body = body;
+		}
+		
+		@Override
+		public HttpStatus getStatusCode() {
+			return HttpStatus.valueOf(this.rawStatusCode);
+		}
+		
+		@Override
+		public int getRawStatusCode() {
+			return this.rawStatusCode;
+		}
+		
+		@Override
+		public String getStatusText() {
+			return this.statusText;
+		}
+		
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+		
+		@Override
+		public InputStream getBody() {
+			return new ByteArrayInputStream(this.body);
+		}
+		
+		@Override
+		public void close() {
+			// body is held in memory, nothing to release
+		}
+		
+	}
+	
+	
+	
+}
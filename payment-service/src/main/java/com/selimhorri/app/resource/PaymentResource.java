@@ -4,6 +4,7 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +13,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.StreamingDtoCollectionResponse;
 import com.selimhorri.app.service.PaymentService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentResource {
 	
 	private final PaymentService paymentService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll() {
@@ -35,6 +41,23 @@ public class PaymentResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAll()));
 	}
 	
+	@GetMapping(params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** PaymentDto Stream, controller; stream all payments *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(new StreamingDtoCollectionResponse<>(this.objectMapper, this.paymentService::streamAll));
+	}
+	
+	@GetMapping(params = "orderId")
+	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAllByOrderId(
+			@RequestParam("orderId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String orderId) {
+		log.info("*** PaymentDto List, resource; fetch payments by order id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAllByOrderId(Integer.parseInt(orderId))));
+	}
+	
 	@GetMapping("/{paymentId}")
 	public ResponseEntity<PaymentDto> findById(
 			@PathVariable("paymentId") 
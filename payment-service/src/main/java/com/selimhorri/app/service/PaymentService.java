@@ -1,13 +1,16 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.PaymentDto;
 
 public interface PaymentService {
 	
 	List<PaymentDto> findAll();
+	void streamAll(final Consumer<PaymentDto> consumer);
 	PaymentDto findById(final Integer paymentId);
+	List<PaymentDto> findAllByOrderId(final Integer orderId);
 	PaymentDto save(final PaymentDto paymentDto);
 	PaymentDto update(final PaymentDto paymentDto);
 	void deleteById(final Integer paymentId);
@@ -1,16 +1,29 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
@@ -28,34 +41,59 @@ public class PaymentServiceImpl implements PaymentService {
 	private final PaymentRepository paymentRepository;
 	private final RestTemplate restTemplate;
 	
+	@PersistenceContext
+	private EntityManager entityManager;
+	
 	@Override
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		return this.enrich(this.paymentRepository.findAll()
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-						return p;
-					})
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public void streamAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** PaymentDto Stream, service; stream all payments *");
+		try (final Stream<Payment> payments = this.paymentRepository.streamAll()) {
+			final List<PaymentDto> chunk = new ArrayList<>(AppConstant.STREAM_CHUNK_SIZE);
+			payments.forEach(row -> {
+				chunk.add(PaymentMappingHelper.map(row));
+				if (chunk.size() == AppConstant.STREAM_CHUNK_SIZE) {
+					this.enrich(chunk).forEach(consumer);
+					chunk.clear();
+					this.entityManager.clear();
+				}
+			});
+			this.enrich(chunk).forEach(consumer);
+		}
+	}
+	
 	@Override
 	public PaymentDto findById(final Integer paymentId) {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
-				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-					return p;
-				})
+				.map(p -> this.enrich(List.of(p)).get(0))
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
 	}
 	
+	/**
+	 * Payments of one order; the order itself is known to the caller and is not fetched again.
+	 */
+	@Override
+	public List<PaymentDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** PaymentDto List, service; fetch payments by order id *");
+		return this.paymentRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public PaymentDto save(final PaymentDto paymentDto) {
 		log.info("*** PaymentDto, service; save payment *");
@@ -76,6 +114,43 @@ public class PaymentServiceImpl implements PaymentService {
 		this.paymentRepository.deleteById(paymentId);
 	}
 	
+	private List<PaymentDto> enrich(final List<PaymentDto> paymentDtos) {
+		if (paymentDtos.isEmpty())
+			return paymentDtos;
+		final String ids = paymentDtos.stream()
+				.map(p -> p.getOrderDto().getOrderId())
+				.distinct()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+		final Map<Integer, OrderDto> orderDtos = this.fetchOrdersByIds(ids);
+		paymentDtos.forEach(p -> p.setOrderDto(orderDtos
+				.getOrDefault(p.getOrderDto().getOrderId(), p.getOrderDto())));
+		return paymentDtos;
+	}
+	
+	/**
+	 * Payments keep their id-only orders when order-service fails or its circuit 
+	 * breaker is open.
+	 */
+	private Map<Integer, OrderDto> fetchOrdersByIds(final String ids) {
+		try {
+			return Optional.ofNullable(this.restTemplate
+						.exchange(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids=" + ids, 
+								HttpMethod.GET, 
+								null, 
+								new ParameterizedTypeReference<DtoCollectionResponse<OrderDto>>() {})
+						.getBody())
+					.map(DtoCollectionResponse::getCollection)
+					.map(c -> c.stream()
+							.collect(Collectors.toMap(OrderDto::getOrderId, Function.identity(), (o1, o2) -> o1)))
+					.orElseGet(Map::of);
+		}
+		catch (RestClientException e) {
+			log.warn("*** OrderDto Map, service; orders {} unavailable, degrading: {} *", ids, e.getMessage());
+			return Map.of();
+		}
+	}
+	
 	
 	
 }
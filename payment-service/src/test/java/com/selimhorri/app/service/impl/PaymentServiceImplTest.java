@@ -0,0 +1,143 @@
+package com.selimhorri.app.service.impl;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
+import com.selimhorri.app.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PaymentServiceImplTest {
+
+    private PaymentRepository paymentRepository;
+    private RestTemplate restTemplate;
+    private EntityManager entityManager;
+    private PaymentServiceImpl paymentService;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        restTemplate = mock(RestTemplate.class);
+        entityManager = mock(EntityManager.class);
+        paymentService = new PaymentServiceImpl(paymentRepository, restTemplate);
+        ReflectionTestUtils.setField(paymentService, "entityManager", entityManager);
+    }
+
+    @Test
+    void shouldEnrichAllPaymentsWithOneOrderCall() {
+        Payment payment1 = Payment.builder().paymentId(1).orderId(10).isPayed(true).build();
+        Payment payment2 = Payment.builder().paymentId(2).orderId(11).isPayed(false).build();
+        Payment payment3 = Payment.builder().paymentId(3).orderId(10).isPayed(false).build();
+
+        OrderDto orderDto1 = OrderDto.builder().orderId(10).orderDesc("Order 10").build();
+        OrderDto orderDto2 = OrderDto.builder().orderId(11).orderDesc("Order 11").build();
+
+        when(paymentRepository.findAll()).thenReturn(Arrays.asList(payment1, payment2, payment3));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(orderDto1, orderDto2))));
+
+        List<PaymentDto> result = paymentService.findAll();
+
+        assertEquals(3, result.size());
+        assertEquals("Order 10", result.get(0).getOrderDto().getOrderDesc());
+        assertEquals("Order 11", result.get(1).getOrderDto().getOrderDesc());
+        assertEquals("Order 10", result.get(2).getOrderDto().getOrderDesc());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, never()).getForObject(anyString(), any());
+    }
+
+    @Test
+    void shouldEnrichSinglePaymentThroughBulkCall() {
+        Payment payment = Payment.builder().paymentId(1).orderId(10).isPayed(true).build();
+        OrderDto orderDto = OrderDto.builder().orderId(10).orderDesc("Order 10").build();
+
+        when(paymentRepository.findById(1)).thenReturn(Optional.of(payment));
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids=10"),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(orderDto))));
+
+        PaymentDto result = paymentService.findById(1);
+
+        assertEquals("Order 10", result.getOrderDto().getOrderDesc());
+    }
+
+    @Test
+    void shouldThrowWhenPaymentNotFoundById() {
+        when(paymentRepository.findById(99)).thenReturn(Optional.empty());
+
+        assertThrows(PaymentNotFoundException.class, () -> paymentService.findById(99));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void shouldStreamPaymentsEnrichingOneChunkAtATime() {
+        int total = AppConstant.STREAM_CHUNK_SIZE + 1;
+        when(paymentRepository.streamAll()).thenReturn(IntStream.rangeClosed(1, total)
+                .mapToObj(i -> Payment.builder().paymentId(i).orderId(10).isPayed(true).build()));
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids=10"),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(
+                        OrderDto.builder().orderId(10).orderDesc("Order 10").build()))));
+
+        List<PaymentDto> streamed = new ArrayList<>();
+        paymentService.streamAll(streamed::add);
+
+        assertEquals(total, streamed.size());
+        assertEquals(IntStream.rangeClosed(1, total).boxed().collect(Collectors.toList()),
+                streamed.stream().map(PaymentDto::getPaymentId).collect(Collectors.toList()));
+        assertTrue(streamed.stream().allMatch(p -> "Order 10".equals(p.getOrderDto().getOrderDesc())));
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(entityManager, times(1)).clear();
+        verify(paymentRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldFetchPaymentsByOrderIdWithoutCallingOrderService() {
+        when(paymentRepository.findAllByOrderId(10)).thenReturn(Arrays.asList(
+                Payment.builder().paymentId(1).orderId(10).isPayed(true).build()));
+
+        List<PaymentDto> result = paymentService.findAllByOrderId(10);
+
+        assertEquals(1, result.size());
+        assertEquals(10, result.get(0).getOrderDto().getOrderId());
+        assertTrue(result.get(0).getIsPayed());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void shouldKeepIdOnlyOrdersWhenOrderServiceIsUnavailable() {
+        Payment payment = Payment.builder().paymentId(1).orderId(10).isPayed(true).build();
+
+        when(paymentRepository.findAll()).thenReturn(Arrays.asList(payment));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new ResourceAccessException("Circuit breaker orderService is OPEN"));
+
+        List<PaymentDto> result = paymentService.findAll();
+
+        assertEquals(1, result.size());
+        assertEquals(10, result.get(0).getOrderDto().getOrderId());
+        assertNull(result.get(0).getOrderDto().getOrderDesc());
+    }
+}
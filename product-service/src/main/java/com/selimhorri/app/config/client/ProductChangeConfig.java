@@ -0,0 +1,40 @@
+package com.selimhorri.app.config.client;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+@ConditionalOnProperty(name = "app.product-change.delivery", havingValue = "discovery", matchIfMissing = true)
+public class ProductChangeConfig {
+	
+	/**
+	 * Delivers invalidations off the writer's thread; once the queue is full 
+	 * further invalidations are rejected and subscribers fall back to their TTL.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService productChangeExecutorService(
+			@Value("${app.product-change.pool-size:4}") final int poolSize, 
+			@Value("${app.product-change.queue-capacity:1000}") final int queueCapacity, 
+			final MeterRegistry meterRegistry) {
+		final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, 
+				new ArrayBlockingQueue<>(queueCapacity), 
+				new CustomizableThreadFactory("product-change-"), 
+				new ThreadPoolExecutor.AbortPolicy());
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+		return ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, "product-change");
+	}
+	
+	
+	
+}
@@ -0,0 +1,17 @@
+package com.selimhorri.app.config.jpa;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Fills createdAt and updatedAt on every write, so conditional GETs have a 
+ * modification time to compare against.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+	
+	
+	
+}
+
@@ -0,0 +1,40 @@
+package com.selimhorri.app.config.pagination;
+
+import lombok.Getter;
+
+/**
+ * Resolves the page size requested by a client against the configured default and upper bound.
+ */
+@Getter
+public class PageSizePolicy {
+	
+	private final int defaultPageSize;
+	private final int maxPageSize;
+	
+	public PageSizePolicy(final int defaultPageSize, final int maxPageSize) {
+		if (defaultPageSize < 1 || maxPageSize < defaultPageSize)
+			throw new IllegalArgumentException(String
+					.format("Invalid page sizes: default %d, max %d", defaultPageSize, maxPageSize));
+		this.defaultPageSize = defaultPageSize;
+		this.maxPageSize = maxPageSize;
+	}
+	
+	public int resolve(final Integer requestedSize) {
+		if (requestedSize == null || requestedSize < 1)
+			return this.defaultPageSize;
+		return Math.min(requestedSize, this.maxPageSize);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaginationConfig {
+	
+	@Bean
+	public PageSizePolicy pageSizePolicy(
+			@Value("${app.pagination.default-page-size:20}") final int defaultPageSize, 
+			@Value("${app.pagination.max-page-size:100}") final int maxPageSize) {
+		return new PageSizePolicy(defaultPageSize, maxPageSize);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -11,6 +11,9 @@ public abstract class AppConstant {
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	
+	public static final String STREAM_FETCH_SIZE = "500";
+	public static final int STREAM_CHUNK_SIZE = 100;
+	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
 		
@@ -34,6 +37,17 @@ public abstract class AppConstant {
 		
 	}
 	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class ProductCacheSubscribers {
+		
+		public static final String FAVOURITE_SERVICE_ID = "FAVOURITE-SERVICE";
+		public static final String FAVOURITE_SERVICE_INVALIDATION_PATH = "/favourite-service/api/cache/products";
+		
+		public static final String SHIPPING_SERVICE_ID = "SHIPPING-SERVICE";
+		public static final String SHIPPING_SERVICE_INVALIDATION_PATH = "/shipping-service/api/cache/products";
+		
+	}
+	
 	
 	
 }
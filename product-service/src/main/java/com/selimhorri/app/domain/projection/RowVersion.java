@@ -0,0 +1,15 @@
+package com.selimhorri.app.domain.projection;
+
+import java.time.Instant;
+
+/**
+ * Modification times of a row and of the row embedded in its representation 
+ * (a product's category, a category's parent).
+ */
+public interface RowVersion {
+	
+	Instant getLastModified();
+	Instant getRelatedLastModified();
+	
+}
+
@@ -0,0 +1,11 @@
+package com.selimhorri.app.domain.projection;
+
+import java.time.Instant;
+
+public interface TableVersion {
+	
+	Long getRowCount();
+	Instant getLastModified();
+	
+}
+
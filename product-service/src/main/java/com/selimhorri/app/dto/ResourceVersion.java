@@ -0,0 +1,27 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ResourceVersion implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private String etag;
+	private Instant lastModified;
+	
+	public long getLastModifiedMillis() {
+		return this.lastModified != null ? this.lastModified.toEpochMilli() : -1L;
+	}
+	
+}
+
@@ -0,0 +1,74 @@
+package com.selimhorri.app.dto.response.collection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the same JSON shape as {@link DtoCollectionResponse}, one element at a time, 
+ * so the whole collection is never held in memory. The source pushes each DTO 
+ * to the given consumer as soon as it is mapped.
+ * 
+ * <p>The 200 is already on the wire once the first element is written, so a row 
+ * failing mid-stream cannot become an error status. The JSON is then left 
+ * unterminated and the failure rethrown, which makes the container abort the 
+ * connection instead of ending the response cleanly.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StreamingDtoCollectionResponse<T> implements StreamingResponseBody {
+	
+	private final ObjectMapper objectMapper;
+	private final Consumer<Consumer<T>> source;
+	
+	@Override
+	public void writeTo(final OutputStream outputStream) throws IOException {
+		final JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+		try {
+			generator.writeStartObject();
+			generator.writeArrayFieldStart("collection");
+			this.source.accept(dto -> {
+				try {
+					generator.writeObject(dto);
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			generator.writeEndArray();
+			generator.writeEndObject();
+			generator.close();
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		catch (RuntimeException e) {
+			log.error("*** Stream aborted after the response was committed: {} *", e.getMessage(), e);
+			throw e;
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,25 @@
+package com.selimhorri.app.event;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class ProductChangedEvent implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private Integer productId;
+	private ChangeType changeType;
+	
+	public enum ChangeType {
+		SAVED, 
+		UPDATED, 
+		DELETED
+	}
+	
+}
@@ -0,0 +1,20 @@
+package com.selimhorri.app.helper;
+
+import org.springframework.web.context.request.WebRequest;
+
+import com.selimhorri.app.dto.ResourceVersion;
+
+public interface ConditionalRequestHelper {
+	
+	/**
+	 * Answers If-None-Match / If-Modified-Since from the version alone, before any 
+	 * query or serialization; on a miss the validators are still set on the 200.
+	 */
+	public static boolean notModified(final WebRequest webRequest, final ResourceVersion resourceVersion) {
+		return webRequest.checkNotModified(resourceVersion.getEtag(), resourceVersion.getLastModifiedMillis());
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,67 @@
+package com.selimhorri.app.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+
+/**
+ * Keyset cursors are the last key of the previous page, encoded so clients treat them as opaque.
+ */
+public interface CursorMappingHelper {
+	
+	String CURSOR_PREFIX = "k1:";
+	Integer FIRST_PAGE_KEY = 0;
+	
+	public static String encode(final Integer key) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((CURSOR_PREFIX + key).getBytes(StandardCharsets.UTF_8));
+	}
+	
+	public static Integer decode(final String cursor) {
+		
+		if (cursor == null || cursor.isBlank())
+			return FIRST_PAGE_KEY;
+		
+		try {
+			final var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!decoded.startsWith(CURSOR_PREFIX))
+				throw new InvalidCursorException(String.format("Cursor: %s is not valid", cursor));
+			return Integer.valueOf(decoded.substring(CURSOR_PREFIX.length()));
+		}
+		catch (IllegalArgumentException e) {
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", cursor), e);
+		}
+	}
+	
+	/**
+	 * Builds a page from a keyset query that fetched one row more than {@code pageSize},
+	 * the extra row only signalling that a next page exists.
+	 */
+	public static <T> DtoCollectionResponse<T> page(final List<T> rows, 
+			final int pageSize, final Function<T, Integer> keyExtractor) {
+		
+		if (rows.size() <= pageSize)
+			return new DtoCollectionResponse<>(rows, null);
+		
+		final var page = rows.subList(0, pageSize);
+		return new DtoCollectionResponse<>(List.copyOf(page), 
+				encode(keyExtractor.apply(page.get(pageSize - 1))));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,28 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.projection.RowVersion;
+import com.selimhorri.app.domain.projection.TableVersion;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@EntityGraph(attributePaths = {"parentCategory"})
+	List<Category> findByCategoryIdGreaterThanOrderByCategoryIdAsc(final Integer categoryId, final Pageable pageable);
+	
+	@Query("SELECT COUNT(c) AS rowCount, MAX(COALESCE(c.updatedAt, c.createdAt)) AS lastModified FROM Category c")
+	TableVersion findTableVersion();
 	
+	@Query("SELECT COALESCE(c.updatedAt, c.createdAt) AS lastModified, COALESCE(pc.updatedAt, pc.createdAt) AS relatedLastModified "
+			+ "FROM Category c LEFT JOIN c.parentCategory pc WHERE c.categoryId = :categoryId")
+	Optional<RowVersion> findRowVersionById(@Param("categoryId") final Integer categoryId);
 	
 }
@@ -1,11 +1,43 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.domain.projection.RowVersion;
+import com.selimhorri.app.domain.projection.TableVersion;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	@EntityGraph(attributePaths = {"category"})
+	List<Product> findByProductIdGreaterThanOrderByProductIdAsc(final Integer productId, final Pageable pageable);
+	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category")
+	Stream<Product> streamAll();
+	
+	@Query("SELECT COUNT(p) AS rowCount, MAX(COALESCE(p.updatedAt, p.createdAt)) AS lastModified FROM Product p")
+	TableVersion findTableVersion();
 	
+	@Query("SELECT COALESCE(p.updatedAt, p.createdAt) AS lastModified, COALESCE(c.updatedAt, c.createdAt) AS relatedLastModified "
+			+ "FROM Product p LEFT JOIN p.category c WHERE p.productId = :productId")
+	Optional<RowVersion> findRowVersionById(@Param("productId") final Integer productId);
 	
 }
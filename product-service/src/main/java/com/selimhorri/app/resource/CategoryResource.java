@@ -12,10 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ConditionalRequestHelper;
+import com.selimhorri.app.service.CatalogVersionService;
 import com.selimhorri.app.service.CategoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,18 +32,33 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryResource {
 	
 	private final CategoryService categoryService;
+	private final CatalogVersionService catalogVersionService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
-		log.info("*** CategoryDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll(
+			@RequestParam(value = "cursor", required = false) final String cursor, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			final WebRequest webRequest) {
+		if (ConditionalRequestHelper.notModified(webRequest, this.catalogVersionService.findCatalogVersion()))
+			return null;
+		if (cursor == null && size == null) {
+			log.info("*** CategoryDto List, controller; fetch all categories *");
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+		}
+		log.info("*** CategoryDto Page, controller; fetch categories page *");
+		return ResponseEntity.ok(this.categoryService.findAll(cursor, size));
 	}
 	
 	@GetMapping("/{categoryId}")
 	public ResponseEntity<CategoryDto> findById(
 			@PathVariable("categoryId") 
 			@NotBlank(message = "Input must not be blank") 
-			@Valid final String categoryId) {
+			@Valid final String categoryId, 
+			final WebRequest webRequest) {
+		if (this.catalogVersionService.findCategoryVersion(Integer.parseInt(categoryId))
+				.map(v -> ConditionalRequestHelper.notModified(webRequest, v))
+				.orElse(false))
+			return null;
 		log.info("*** CategoryDto, resource; fetch category by id *");
 		return ResponseEntity.ok(this.categoryService.findById(Integer.parseInt(categoryId)));
 	}
@@ -1,9 +1,13 @@
 package com.selimhorri.app.resource;
 
+import java.util.Set;
+
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +16,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.StreamingDtoCollectionResponse;
+import com.selimhorri.app.helper.ConditionalRequestHelper;
+import com.selimhorri.app.service.CatalogVersionService;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,18 +39,56 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductResource {
 	
 	private final ProductService productService;
+	private final CatalogVersionService catalogVersionService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll() {
-		log.info("*** ProductDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll(
+			@RequestParam(value = "cursor", required = false) final String cursor, 
+			@RequestParam(value = "size", required = false) final Integer size, 
+			final WebRequest webRequest) {
+		if (ConditionalRequestHelper.notModified(webRequest, this.catalogVersionService.findCatalogVersion()))
+			return null;
+		if (cursor == null && size == null) {
+			log.info("*** ProductDto List, controller; fetch all products *");
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+		}
+		log.info("*** ProductDto Page, controller; fetch products page *");
+		return ResponseEntity.ok(this.productService.findAll(cursor, size));
+	}
+	
+	@GetMapping(params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamAll(final WebRequest webRequest) {
+		if (ConditionalRequestHelper.notModified(webRequest, this.catalogVersionService.findCatalogVersion()))
+			return null;
+		log.info("*** ProductDto Stream, controller; stream all products *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(new StreamingDtoCollectionResponse<>(this.objectMapper, this.productService::streamAll));
+	}
+	
+	@GetMapping(params = "ids")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAllByIds(
+			@RequestParam("ids") 
+			@NotEmpty(message = "Input must not be empty!") 
+			@Valid final Set<Integer> productIds, 
+			final WebRequest webRequest) {
+		if (ConditionalRequestHelper.notModified(webRequest, this.catalogVersionService.findCatalogVersion()))
+			return null;
+		log.info("*** ProductDto List, resource; fetch products by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAllByIds(productIds)));
 	}
 	
 	@GetMapping("/{productId}")
 	public ResponseEntity<ProductDto> findById(
 			@PathVariable("productId") 
 			@NotBlank(message = "Input must not be blank!") 
-			@Valid final String productId) {
+			@Valid final String productId, 
+			final WebRequest webRequest) {
+		if (this.catalogVersionService.findProductVersion(Integer.parseInt(productId))
+				.map(v -> ConditionalRequestHelper.notModified(webRequest, v))
+				.orElse(false))
+			return null;
 		log.info("*** ProductDto, resource; fetch product by id *");
 		return ResponseEntity.ok(this.productService.findById(Integer.parseInt(productId)));
 	}
@@ -0,0 +1,14 @@
+package com.selimhorri.app.service;
+
+import java.util.Optional;
+
+import com.selimhorri.app.dto.ResourceVersion;
+
+public interface CatalogVersionService {
+	
+	ResourceVersion findCatalogVersion();
+	Optional<ResourceVersion> findProductVersion(final Integer productId);
+	Optional<ResourceVersion> findCategoryVersion(final Integer categoryId);
+	
+}
+
@@ -0,0 +1,9 @@
+package com.selimhorri.app.service;
+
+import com.selimhorri.app.event.ProductChangedEvent;
+
+public interface ProductChangeNotifier {
+	
+	void notify(final ProductChangedEvent productChangedEvent);
+	
+}
@@ -0,0 +1,143 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.selimhorri.app.domain.projection.RowVersion;
+import com.selimhorri.app.domain.projection.TableVersion;
+import com.selimhorri.app.dto.ResourceVersion;
+import com.selimhorri.app.event.CategoryChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CatalogVersionService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Versions for conditional GETs. Collections share one catalog version built from 
+ * row count and max(updated_at) of both tables, since products embed their category; 
+ * it is kept in memory, dropped on every committed local write and re-read after a 
+ * short time-to-live to pick up writes made through other instances. Single rows 
+ * are versioned by a narrow timestamp query instead of loading the entity.
+ */
+@Service
+@Slf4j
+public class CatalogVersionServiceImpl implements CatalogVersionService {
+	
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private final Duration timeToLive;
+	private final Clock clock;
+	private final AtomicReference<CachedVersion> catalogVersion = new AtomicReference<>();
+	private final AtomicLong generation = new AtomicLong();
+	
+	@Autowired
+	public CatalogVersionServiceImpl(final ProductRepository productRepository, 
+			final CategoryRepository categoryRepository, 
+			@Value("${app.catalog-version.time-to-live:5s}") final Duration timeToLive) {
+		this(productRepository, categoryRepository, timeToLive, Clock.systemUTC());
+	}
+	
+	CatalogVersionServiceImpl(final ProductRepository productRepository, 
+			final CategoryRepository categoryRepository, 
+			final Duration timeToLive, 
+			final Clock clock) {
+		this.productRepository = productRepository;
+		this.categoryRepository = categoryRepository;
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+	}
+	
+	@Override
+	public ResourceVersion findCatalogVersion() {
+		final Instant now = this.clock.instant();
+		final CachedVersion cached = this.catalogVersion.get();
+		if (cached != null && now.isBefore(cached.expiresAt))
+			return cached.version;
+		
+		log.info("*** ResourceVersion, service; compute catalog version *");
+		final long generation = this.generation.get();
+		final TableVersion products = this.productRepository.findTableVersion();
+		final TableVersion categories = this.categoryRepository.findTableVersion();
+		final ResourceVersion version = new ResourceVersion(
+				String.format("catalog-%d.%d-%d.%d", 
+						products.getRowCount(), millis(products.getLastModified()), 
+						categories.getRowCount(), millis(categories.getLastModified())), 
+				latest(products.getLastModified(), categories.getLastModified()));
+		// a write committed while we were reading leaves the version uncached
+		if (this.generation.get() == generation)
+			this.catalogVersion.set(new CachedVersion(version, now.plus(this.timeToLive)));
+		return version;
+	}
+	
+	@Override
+	public Optional<ResourceVersion> findProductVersion(final Integer productId) {
+		return this.productRepository.findRowVersionById(productId)
+				.map(v -> version("product-" + productId, v));
+	}
+	
+	@Override
+	public Optional<ResourceVersion> findCategoryVersion(final Integer categoryId) {
+		return this.categoryRepository.findRowVersionById(categoryId)
+				.map(v -> version("category-" + categoryId, v));
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(final ProductChangedEvent productChangedEvent) {
+		this.invalidate();
+	}
+	
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryChanged(final CategoryChangedEvent categoryChangedEvent) {
+		this.invalidate();
+	}
+	
+	private void invalidate() {
+		this.generation.incrementAndGet();
+		this.catalogVersion.set(null);
+	}
+	
+	private static ResourceVersion version(final String prefix, final RowVersion rowVersion) {
+		return new ResourceVersion(
+				String.format("%s.%d.%d", prefix, millis(rowVersion.getLastModified()), millis(rowVersion.getRelatedLastModified())), 
+				latest(rowVersion.getLastModified(), rowVersion.getRelatedLastModified()));
+	}
+	
+	private static long millis(final Instant instant) {
+		return instant != null ? instant.toEpochMilli() : 0L;
+	}
+	
+	private static Instant latest(final Instant first, final Instant second) {
+		return Stream.of(first, second)
+				.filter(i -> i != null)
+				.max(Instant::compareTo)
+				.orElse(null);
+	}
+	
+	private static final class CachedVersion {
+		
+		private final ResourceVersion version;
+		private final Instant expiresAt;
+		
+		private CachedVersion(final ResourceVersion version, final Instant expiresAt) {
+			this.version = version;
+			this.expiresAt = expiresAt;
+		}
+		
+	}
+	
+	
+	
+}
+
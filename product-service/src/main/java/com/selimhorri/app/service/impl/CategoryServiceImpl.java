@@ -5,11 +5,18 @@ import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.config.pagination.PageSizePolicy;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.event.CategoryChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent.ChangeType;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.CursorMappingHelper;
 import com.selimhorri.app.repository.CategoryRepository;
 import com.selimhorri.app.service.CategoryService;
 
@@ -23,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PageSizePolicy pageSizePolicy;
 	
 	@Override
 	public List<CategoryDto> findAll() {
@@ -34,6 +43,17 @@ public class CategoryServiceImpl implements CategoryService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoCollectionResponse<CategoryDto> findAll(final String cursor, final Integer size) {
+		log.info("*** CategoryDto Page, service; fetch categories page after cursor *");
+		final int pageSize = this.pageSizePolicy.resolve(size);
+		return CursorMappingHelper.page(this.categoryRepository
+				.findByCategoryIdGreaterThanOrderByCategoryIdAsc(CursorMappingHelper.decode(cursor), PageRequest.of(0, pageSize + 1))
+				.stream()
+					.map(CategoryMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), pageSize, CategoryDto::getCategoryId);
+	}
+	
 	@Override
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
@@ -45,28 +65,34 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		return this.publish(CategoryMappingHelper.map(this.categoryRepository
+				.save(CategoryMappingHelper.map(categoryDto))), ChangeType.SAVED);
 	}
 	
 	@Override
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		return this.publish(CategoryMappingHelper.map(this.categoryRepository
+				.save(CategoryMappingHelper.map(categoryDto))), ChangeType.UPDATED);
 	}
 	
 	@Override
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(this.findById(categoryId))));
+		return this.publish(CategoryMappingHelper.map(this.categoryRepository
+				.save(CategoryMappingHelper.map(this.findById(categoryId)))), ChangeType.UPDATED);
 	}
 	
 	@Override
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
 		this.categoryRepository.deleteById(categoryId);
+		this.eventPublisher.publishEvent(new CategoryChangedEvent(categoryId, ChangeType.DELETED));
+	}
+	
+	private CategoryDto publish(final CategoryDto categoryDto, final ChangeType changeType) {
+		this.eventPublisher.publishEvent(new CategoryChangedEvent(categoryDto.getCategoryId(), changeType));
+		return categoryDto;
 	}
 	
 	
@@ -0,0 +1,85 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.service.ProductChangeNotifier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts product changes to every registered instance of the services 
+ * holding a product near-cache, once the change is committed. Each delivery 
+ * runs on the bounded product-change executor, so writers never wait on subscribers.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.product-change.delivery", havingValue = "discovery", matchIfMissing = true)
+public class DiscoveryProductChangeNotifier implements ProductChangeNotifier {
+	
+	private static final Map<String, String> INVALIDATION_PATHS = Map.of(
+			AppConstant.ProductCacheSubscribers.FAVOURITE_SERVICE_ID, 
+			AppConstant.ProductCacheSubscribers.FAVOURITE_SERVICE_INVALIDATION_PATH, 
+			AppConstant.ProductCacheSubscribers.SHIPPING_SERVICE_ID, 
+			AppConstant.ProductCacheSubscribers.SHIPPING_SERVICE_INVALIDATION_PATH);
+	
+	private final DiscoveryClient discoveryClient;
+	private final RestTemplate restTemplate;
+	private final ExecutorService productChangeExecutorService;
+	
+	public DiscoveryProductChangeNotifier(final DiscoveryClient discoveryClient, 
+			final RestTemplateBuilder restTemplateBuilder, 
+			final ExecutorService productChangeExecutorService) {
+		this.discoveryClient = discoveryClient;
+		this.productChangeExecutorService = productChangeExecutorService;
+		this.restTemplate = restTemplateBuilder
+				.setConnectTimeout(Duration.ofMillis(500))
+				.setReadTimeout(Duration.ofSeconds(1))
+				.build();
+	}
+	
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void notify(final ProductChangedEvent productChangedEvent) {
+		log.info("*** Void, notifier; broadcast product change *");
+		INVALIDATION_PATHS.forEach((serviceId, path) -> 
+				this.discoveryClient.getInstances(serviceId)
+					.forEach(instance -> this.submit(instance, path, productChangedEvent.getProductId())));
+	}
+	
+	private void submit(final ServiceInstance instance, final String path, final Integer productId) {
+		try {
+			this.productChangeExecutorService.execute(() -> this.invalidate(instance, path, productId));
+		}
+		catch (RejectedExecutionException e) {
+			// subscriber falls back to its TTL
+			log.warn("Dropped invalidation of product {} on {}: delivery queue full", productId, instance.getUri());
+		}
+	}
+	
+	private void invalidate(final ServiceInstance instance, final String path, final Integer productId) {
+		try {
+			this.restTemplate.delete(instance.getUri() + path + "/" + productId);
+		}
+		catch (RestClientException e) {
+			// subscriber falls back to its TTL
+			log.warn("Could not invalidate product {} on {}: {}", productId, instance.getUri(), e.getMessage());
+		}
+	}
+	
+	
+	
+}
@@ -0,0 +1,36 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.service.ProductChangeNotifier;
+
+/**
+ * Local stand-in for the discovery broadcast, delivering committed product 
+ * changes to in-process subscribers. Used for tests and single-node runs.
+ */
+@Service
+@ConditionalOnProperty(name = "app.product-change.delivery", havingValue = "in-memory")
+public class InMemoryProductChangeNotifier implements ProductChangeNotifier {
+	
+	private final List<Consumer<ProductChangedEvent>> subscribers = new CopyOnWriteArrayList<>();
+	
+	public void subscribe(final Consumer<ProductChangedEvent> subscriber) {
+		this.subscribers.add(subscriber);
+	}
+	
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void notify(final ProductChangedEvent productChangedEvent) {
+		this.subscribers.forEach(s -> s.accept(productChangedEvent));
+	}
+	
+	
+	
+}
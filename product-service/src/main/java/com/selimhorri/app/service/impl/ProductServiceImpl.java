@@ -1,14 +1,28 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.config.pagination.PageSizePolicy;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent.ChangeType;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.helper.CursorMappingHelper;
 import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.ProductService;
@@ -23,6 +37,11 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final PageSizePolicy pageSizePolicy;
+	
+	@PersistenceContext
+	private EntityManager entityManager;
 	
 	@Override
 	public List<ProductDto> findAll() {
@@ -34,6 +53,30 @@ public class ProductServiceImpl implements ProductService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoCollectionResponse<ProductDto> findAll(final String cursor, final Integer size) {
+		log.info("*** ProductDto Page, service; fetch products page after cursor *");
+		final int pageSize = this.pageSizePolicy.resolve(size);
+		return CursorMappingHelper.page(this.productRepository
+				.findByProductIdGreaterThanOrderByProductIdAsc(CursorMappingHelper.decode(cursor), PageRequest.of(0, pageSize + 1))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), pageSize, ProductDto::getProductId);
+	}
+	
+	@Override
+	public void streamAll(final Consumer<ProductDto> consumer) {
+		log.info("*** ProductDto Stream, service; stream all products *");
+		try (final Stream<Product> products = this.productRepository.streamAll()) {
+			final var rows = products.iterator();
+			for (int i = 1; rows.hasNext(); i++) {
+				consumer.accept(ProductMappingHelper.map(rows.next()));
+				if (i % AppConstant.STREAM_CHUNK_SIZE == 0)
+					this.entityManager.clear();
+			}
+		}
+	}
+	
 	@Override
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
@@ -42,25 +85,35 @@ public class ProductServiceImpl implements ProductService {
 				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
 	}
 	
+	@Override
+	public List<ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch products by ids *");
+		return this.productRepository.findAllById(productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		return this.publish(ProductMappingHelper.map(this.productRepository
+				.save(ProductMappingHelper.map(productDto))), ChangeType.SAVED);
 	}
 	
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		return this.publish(ProductMappingHelper.map(this.productRepository
+				.save(ProductMappingHelper.map(productDto))), ChangeType.UPDATED);
 	}
 	
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(this.findById(productId))));
+		return this.publish(ProductMappingHelper.map(this.productRepository
+				.save(ProductMappingHelper.map(this.findById(productId)))), ChangeType.UPDATED);
 	}
 	
 	@Override
@@ -68,6 +121,12 @@ public class ProductServiceImpl implements ProductService {
 		log.info("*** Void, service; delete product by id *");
 		this.productRepository.delete(ProductMappingHelper
 				.map(this.findById(productId)));
+		this.eventPublisher.publishEvent(new ProductChangedEvent(productId, ChangeType.DELETED));
+	}
+	
+	private ProductDto publish(final ProductDto productDto, final ChangeType changeType) {
+		this.eventPublisher.publishEvent(new ProductChangedEvent(productDto.getProductId(), changeType));
+		return productDto;
 	}
 	
 	
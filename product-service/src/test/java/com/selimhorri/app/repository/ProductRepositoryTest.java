@@ -0,0 +1,44 @@
+package com.selimhorri.app.repository;
+
+import com.selimhorri.app.config.jpa.JpaAuditingConfig;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "SPRING_CONFIG_IMPORT=optional:file:/nonexistent/")
+@Import(JpaAuditingConfig.class)
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldKeepCreationTimeWhenSavingEntityBuiltFromDto() {
+        Product seeded = productRepository.findById(1).orElseThrow();
+        Instant createdAt = seeded.getCreatedAt();
+        ProductDto productDto = ProductMappingHelper.map(seeded);
+        productDto.setProductTitle("asus zenbook");
+        entityManager.clear();
+
+        productRepository.saveAndFlush(ProductMappingHelper.map(productDto));
+        entityManager.clear();
+
+        Product updated = productRepository.findById(1).orElseThrow();
+        assertNotNull(createdAt);
+        assertEquals(createdAt, updated.getCreatedAt());
+        assertEquals("asus zenbook", updated.getProductTitle());
+        assertNotNull(updated.getUpdatedAt());
+    }
+}
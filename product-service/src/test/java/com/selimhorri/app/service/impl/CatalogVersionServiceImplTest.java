@@ -0,0 +1,150 @@
+package com.selimhorri.app.service.impl;
+
+import com.selimhorri.app.domain.projection.RowVersion;
+import com.selimhorri.app.domain.projection.TableVersion;
+import com.selimhorri.app.dto.ResourceVersion;
+import com.selimhorri.app.event.CategoryChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent.ChangeType;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CatalogVersionServiceImplTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private ProductRepository productRepository;
+    private CategoryRepository categoryRepository;
+    private MutableClock clock;
+    private CatalogVersionServiceImpl catalogVersionService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        clock = new MutableClock(T0);
+        catalogVersionService = new CatalogVersionServiceImpl(productRepository, categoryRepository, Duration.ofSeconds(5), clock);
+        TableVersion products = tableVersion(10L, T0);
+        TableVersion categories = tableVersion(3L, T0.minusSeconds(60));
+        when(productRepository.findTableVersion()).thenReturn(products);
+        when(categoryRepository.findTableVersion()).thenReturn(categories);
+    }
+
+    @Test
+    void shouldServeCatalogVersionFromMemoryWithinTimeToLive() {
+        ResourceVersion first = catalogVersionService.findCatalogVersion();
+        clock.advance(Duration.ofSeconds(4));
+        ResourceVersion second = catalogVersionService.findCatalogVersion();
+
+        assertEquals(first, second);
+        assertEquals(T0, first.getLastModified());
+        verify(productRepository, times(1)).findTableVersion();
+        verify(categoryRepository, times(1)).findTableVersion();
+    }
+
+    @Test
+    void shouldRecomputeCatalogVersionAfterTimeToLive() {
+        catalogVersionService.findCatalogVersion();
+        clock.advance(Duration.ofSeconds(6));
+        catalogVersionService.findCatalogVersion();
+
+        verify(productRepository, times(2)).findTableVersion();
+    }
+
+    @Test
+    void shouldChangeCatalogVersionWhenAProductChanges() {
+        ResourceVersion before = catalogVersionService.findCatalogVersion();
+        TableVersion updated = tableVersion(10L, T0.plusSeconds(1));
+        when(productRepository.findTableVersion()).thenReturn(updated);
+
+        catalogVersionService.onProductChanged(new ProductChangedEvent(1, ChangeType.UPDATED));
+        ResourceVersion after = catalogVersionService.findCatalogVersion();
+
+        assertNotEquals(before.getEtag(), after.getEtag());
+        assertEquals(T0.plusSeconds(1), after.getLastModified());
+    }
+
+    @Test
+    void shouldChangeCatalogVersionWhenACategoryIsDeleted() {
+        ResourceVersion before = catalogVersionService.findCatalogVersion();
+        TableVersion deleted = tableVersion(2L, T0.minusSeconds(60));
+        when(categoryRepository.findTableVersion()).thenReturn(deleted);
+
+        catalogVersionService.onCategoryChanged(new CategoryChangedEvent(3, ChangeType.DELETED));
+
+        assertNotEquals(before.getEtag(), catalogVersionService.findCatalogVersion().getEtag());
+    }
+
+    @Test
+    void shouldVersionProductByItsOwnAndItsCategoryModificationTime() {
+        RowVersion rowVersion = rowVersion(T0, T0.plusSeconds(30));
+        when(productRepository.findRowVersionById(42)).thenReturn(Optional.of(rowVersion));
+
+        ResourceVersion version = catalogVersionService.findProductVersion(42).orElseThrow();
+
+        assertTrue(version.getEtag().startsWith("product-42."));
+        assertEquals(T0.plusSeconds(30), version.getLastModified());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldReturnEmptyVersionForUnknownCategory() {
+        when(categoryRepository.findRowVersionById(7)).thenReturn(Optional.empty());
+
+        assertTrue(catalogVersionService.findCategoryVersion(7).isEmpty());
+    }
+
+    private static TableVersion tableVersion(Long rowCount, Instant lastModified) {
+        TableVersion tableVersion = mock(TableVersion.class);
+        when(tableVersion.getRowCount()).thenReturn(rowCount);
+        when(tableVersion.getLastModified()).thenReturn(lastModified);
+        return tableVersion;
+    }
+
+    private static RowVersion rowVersion(Instant lastModified, Instant relatedLastModified) {
+        RowVersion rowVersion = mock(RowVersion.class);
+        when(rowVersion.getLastModified()).thenReturn(lastModified);
+        when(rowVersion.getRelatedLastModified()).thenReturn(relatedLastModified);
+        return rowVersion;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.selimhorri.app.service.impl;
+
+import com.selimhorri.app.config.pagination.PageSizePolicy;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.event.ProductChangedEvent;
+import com.selimhorri.app.event.ProductChangedEvent.ChangeType;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+import com.selimhorri.app.helper.CursorMappingHelper;
+import com.selimhorri.app.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductServiceImplTest {
+
+    private ProductRepository productRepository;
+    private InMemoryProductChangeNotifier notifier;
+    private List<ProductChangedEvent> delivered;
+    private ProductServiceImpl productService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        notifier = new InMemoryProductChangeNotifier();
+        delivered = new ArrayList<>();
+        notifier.subscribe(delivered::add);
+        ApplicationEventPublisher eventPublisher = event -> notifier.notify((ProductChangedEvent) event);
+        productService = new ProductServiceImpl(productRepository, eventPublisher, new PageSizePolicy(2, 3));
+    }
+
+    @Test
+    void shouldNotifySubscribersWhenProductIsUpdated() {
+        Product product = product(42);
+        when(productRepository.save(any(Product.class))).thenReturn(product);
+
+        productService.update(productDto(42));
+
+        assertEquals(1, delivered.size());
+        assertEquals(42, delivered.get(0).getProductId());
+        assertEquals(ChangeType.UPDATED, delivered.get(0).getChangeType());
+    }
+
+    @Test
+    void shouldNotifySubscribersWhenProductIsDeleted() {
+        when(productRepository.findById(42)).thenReturn(Optional.of(product(42)));
+
+        productService.deleteById(42);
+
+        assertEquals(1, delivered.size());
+        assertEquals(ChangeType.DELETED, delivered.get(0).getChangeType());
+        verify(productRepository, times(1)).delete(any(Product.class));
+    }
+
+    @Test
+    void shouldNotNotifySubscribersOnReads() {
+        when(productRepository.findById(42)).thenReturn(Optional.of(product(42)));
+
+        productService.findById(42);
+
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    void shouldReturnFirstPageWithNextCursorWhenMoreRowsExist() {
+        when(productRepository.findByProductIdGreaterThanOrderByProductIdAsc(0, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(product(1), product(2), product(3)));
+
+        DtoCollectionResponse<ProductDto> page = productService.findAll(null, null);
+
+        assertEquals(2, page.getCollection().size());
+        assertEquals(CursorMappingHelper.encode(2), page.getNextCursor());
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldResumeAfterCursorAndOmitNextCursorOnLastPage() {
+        when(productRepository.findByProductIdGreaterThanOrderByProductIdAsc(2, PageRequest.of(0, 4)))
+                .thenReturn(Arrays.asList(product(3), product(4)));
+
+        DtoCollectionResponse<ProductDto> page = productService.findAll(CursorMappingHelper.encode(2), 50);
+
+        assertEquals(2, page.getCollection().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldStreamProductsInRepositoryOrder() {
+        when(productRepository.streamAll()).thenReturn(Stream.of(product(1), product(2), product(3)));
+
+        List<ProductDto> streamed = new ArrayList<>();
+        productService.streamAll(streamed::add);
+
+        assertEquals(3, streamed.size());
+        assertEquals(3, streamed.get(2).getProductId());
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThrows(InvalidCursorException.class, () -> productService.findAll("not-a-cursor", 2));
+        verifyNoInteractions(productRepository);
+    }
+
+    private static Product product(Integer productId) {
+        return Product.builder()
+                .productId(productId)
+                .productTitle("Product " + productId)
+                .category(Category.builder().categoryId(1).categoryTitle("Category").build())
+                .build();
+    }
+
+    private static ProductDto productDto(Integer productId) {
+        return ProductDto.builder()
+                .productId(productId)
+                .productTitle("Product " + productId)
+                .categoryDto(CategoryDto.builder().categoryId(1).categoryTitle("Category").build())
+                .build();
+    }
+}
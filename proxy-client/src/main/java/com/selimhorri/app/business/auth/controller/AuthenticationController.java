@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
+import com.selimhorri.app.business.auth.model.request.RevokeTokenRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 import com.selimhorri.app.business.auth.service.AuthenticationService;
 
@@ -35,6 +37,24 @@ public class AuthenticationController {
 		return ResponseEntity.ok(this.authenticationService.authenticate(authenticationRequest));
 	}
 	
+	@PostMapping("/refresh")
+	public ResponseEntity<AuthenticationResponse> refresh(
+			@RequestBody 
+			@NotNull(message = "") 
+			@Valid final RefreshTokenRequest refreshTokenRequest) {
+		log.info("**Authentication controller, proceed with the refresh request*\n");
+		return ResponseEntity.ok(this.authenticationService.refresh(refreshTokenRequest));
+	}
+	
+	@PostMapping("/revoke")
+	public ResponseEntity<Boolean> revoke(
+			@RequestBody 
+			@NotNull(message = "") 
+			@Valid final RevokeTokenRequest revokeTokenRequest) {
+		log.info("**Authentication controller, proceed with the revoke request*\n");
+		return ResponseEntity.ok(this.authenticationService.revoke(revokeTokenRequest));
+	}
+	
 	@GetMapping("/jwt/{jwt}")
 	public ResponseEntity<Boolean> authenticate(@PathVariable("jwt") final String jwt) {
 		log.info("**Authentication controller, proceed with the request*\n");
@@ -1,11 +1,15 @@
 package com.selimhorri.app.business.auth.service;
 
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
+import com.selimhorri.app.business.auth.model.request.RevokeTokenRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 
 public interface AuthenticationService {
 	
 	AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest);
+	AuthenticationResponse refresh(final RefreshTokenRequest refreshTokenRequest);
+	Boolean revoke(final RevokeTokenRequest revokeTokenRequest);
 	Boolean authenticate(final String jwt);
 	
 }
@@ -0,0 +1,10 @@
+package com.selimhorri.app.business.auth.service;
+
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+public interface CachedUserDetailsService extends UserDetailsService {
+	
+	void evictByUsername(final String username);
+	void evictByCredentialId(final Integer credentialId);
+	
+}
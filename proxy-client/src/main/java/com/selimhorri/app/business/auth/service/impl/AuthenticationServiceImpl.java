@@ -3,15 +3,27 @@ package com.selimhorri.app.business.auth.service.impl;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
+import com.selimhorri.app.business.auth.model.request.RevokeTokenRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 import com.selimhorri.app.business.auth.service.AuthenticationService;
+import com.selimhorri.app.config.auth.LoginBulkhead;
+import com.selimhorri.app.constant.AppConstant.JwtClaims;
 import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
 import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,22 +35,99 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 	private final AuthenticationManager authenticationManager;
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final LoginBulkhead loginBulkhead;
+	private final TokenRevocationService tokenRevocationService;
+	private final MeterRegistry meterRegistry;
 	
 	@Override
 	public AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest) {
 		
 		log.info("** AuthenticationResponse, authenticate user service*\n");
 		
+		final Timer.Sample sample = Timer.start(this.meterRegistry);
 		try {
-			this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
-					authenticationRequest.getUsername(), authenticationRequest.getPassword()));
+			this.loginBulkhead.execute(() -> this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+					authenticationRequest.getUsername(), authenticationRequest.getPassword())));
 		}
 		catch (BadCredentialsException e) {
 			throw new IllegalAuthenticationCredentialsException("#### Bad credentials! ####");
 		}
 		
-		return new AuthenticationResponse(this.jwtService.generateToken(this.userDetailsService
-				.loadUserByUsername(authenticationRequest.getUsername())));
+		final AuthenticationResponse authenticationResponse = this.issueTokens(this.userDetailsService
+				.loadUserByUsername(authenticationRequest.getUsername()));
+		sample.stop(this.issueTimer("password"));
+		return authenticationResponse;
+	}
+	
+	/**
+	 * Renews the token pair from a refresh token: a signature check, a revocation check and 
+	 * a cached credential lookup, but no password hashing. The credential is reloaded so a 
+	 * disabled account or a role change takes effect at the next refresh. The presented 
+	 * refresh token is rotated, so replaying it after a successful renewal is rejected, 
+	 * and the new one keeps its expiration, so the session still ends on time.
+	 */
+	@Override
+	public AuthenticationResponse refresh(final RefreshTokenRequest refreshTokenRequest) {
+		
+		log.info("** AuthenticationResponse, refresh user tokens service*\n");
+		
+		final Timer.Sample sample = Timer.start(this.meterRegistry);
+		final Claims claims;
+		try {
+			claims = this.jwtService.extractAllClaims(refreshTokenRequest.getRefreshToken());
+		}
+		catch (JwtException | IllegalArgumentException e) {
+			throw new IllegalAuthenticationCredentialsException("#### Invalid refresh token! ####");
+		}
+		
+		if (!JwtClaims.REFRESH_TOKEN.equals(claims.get(JwtClaims.TOKEN_TYPE, String.class)) 
+				|| claims.getId() == null)
+			throw new IllegalAuthenticationCredentialsException("#### Invalid refresh token! ####");
+		
+		final UserDetails userDetails;
+		try {
+			userDetails = this.userDetailsService.loadUserByUsername(claims.getSubject());
+		}
+		catch (UsernameNotFoundException | HttpClientErrorException e) {
+			throw new IllegalAuthenticationCredentialsException("#### Invalid refresh token! ####");
+		}
+		
+		if (!userDetails.isEnabled() || !userDetails.isAccountNonLocked())
+			throw new IllegalAuthenticationCredentialsException("#### Account disabled or locked! ####");
+		
+		if (!this.tokenRevocationService.revoke(claims.getId(), claims.getExpiration()))
+			throw new IllegalAuthenticationCredentialsException("#### Refresh token already used or revoked! ####");
+		
+		final AuthenticationResponse authenticationResponse = AuthenticationResponse.builder()
+				.jwtToken(this.jwtService.generateToken(userDetails))
+				.refreshToken(this.jwtService.generateRefreshToken(userDetails, claims.getExpiration()))
+				.build();
+		sample.stop(this.issueTimer("refresh_token"));
+		return authenticationResponse;
+	}
+	
+	/**
+	 * Revokes an access or refresh token before its expiry; holding the signed 
+	 * token is enough to revoke it.
+	 */
+	@Override
+	public Boolean revoke(final RevokeTokenRequest revokeTokenRequest) {
+		
+		log.info("** Boolean, revoke user token service*\n");
+		
+		final Claims claims;
+		try {
+			claims = this.jwtService.extractAllClaims(revokeTokenRequest.getToken());
+		}
+		catch (JwtException | IllegalArgumentException e) {
+			throw new IllegalAuthenticationCredentialsException("#### Invalid token! ####");
+		}
+		
+		if (claims.getId() == null)
+			throw new IllegalAuthenticationCredentialsException("#### Token carries no id and cannot be revoked! ####");
+		
+		this.tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
+		return true;
 	}
 	
 	@Override
@@ -46,6 +135,21 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 		return null;
 	}
 	
+	private AuthenticationResponse issueTokens(final UserDetails userDetails) {
+		return AuthenticationResponse.builder()
+				.jwtToken(this.jwtService.generateToken(userDetails))
+				.refreshToken(this.jwtService.generateRefreshToken(userDetails))
+				.build();
+	}
+	
+	private Timer issueTimer(final String grant) {
+		return Timer.builder("auth.token.issue")
+				.description("Time to issue an access/refresh token pair, by grant type")
+				.tag("grant", grant)
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(this.meterRegistry);
+	}
+	
 	
 	
 }
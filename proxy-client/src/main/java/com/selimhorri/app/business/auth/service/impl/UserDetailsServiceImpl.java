@@ -1,30 +1,54 @@
 package com.selimhorri.app.business.auth.service.impl;
 
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.business.auth.service.CachedUserDetailsService;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.UserDetailsImpl;
 import com.selimhorri.app.constant.AppConstant;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements CachedUserDetailsService {
 	
 	private static final String API_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/credentials";
 	private final RestTemplate restTemplate;
+	private final Cache<String, UserDetailsImpl> userDetailsCache;
+	private final MeterRegistry meterRegistry;
 	
 	@Override
 	public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
 		log.info("**UserDetails, load user by username*\n");
-		return new UserDetailsImpl(this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDto.class));
+		return this.userDetailsCache.get(username, this::fetch);
+	}
+	
+	@Override
+	public void evictByUsername(final String username) {
+		log.info("**Void, evict cached user details by username*\n");
+		if (username != null)
+			this.userDetailsCache.invalidate(username);
+	}
+	
+	@Override
+	public void evictByCredentialId(final Integer credentialId) {
+		log.info("**Void, evict cached user details by credentialId*\n");
+		if (credentialId != null)
+			this.userDetailsCache.asMap().values()
+					.removeIf(u -> credentialId.equals(u.getCredential().getCredentialId()));
+	}
+	
+	private UserDetailsImpl fetch(final String username) {
+		return this.meterRegistry.timer("user.details.load").record(() -> 
+				new UserDetailsImpl(this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDto.class)));
 	}
 	
 	
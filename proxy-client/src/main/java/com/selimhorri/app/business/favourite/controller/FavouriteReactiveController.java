@@ -0,0 +1,90 @@
+package com.selimhorri.app.business.favourite.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.favourite.model.FavouriteDto;
+import com.selimhorri.app.business.favourite.model.FavouriteId;
+import com.selimhorri.app.business.favourite.model.response.FavouriteFavouriteServiceCollectionDtoResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of FavouriteController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/favourites")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class FavouriteReactiveController {
+	
+	private final DownstreamWebClient favouriteClient;
+	
+	public FavouriteReactiveController(final WebClient downstreamWebClient) {
+		this.favouriteClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.FAVOURITE_SERVICE_API_URL);
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse>> findAll() {
+		return this.favouriteClient.get(FavouriteFavouriteServiceCollectionDtoResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{userId}/{productId}/{likeDate}")
+	public Mono<ResponseEntity<FavouriteDto>> findById(
+			@PathVariable("userId") final String userId, 
+			@PathVariable("productId") final String productId, 
+			@PathVariable("likeDate") final String likeDate) {
+		return this.favouriteClient.get(FavouriteDto.class, "/{userId}/{productId}/{likeDate}", userId, productId, likeDate)
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/find")
+	public Mono<ResponseEntity<FavouriteDto>> findById(@RequestBody final FavouriteId favouriteId) {
+		return this.favouriteClient.getWithBody(FavouriteDto.class, favouriteId, "/find")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<FavouriteDto>> save(@RequestBody final FavouriteDto favouriteDto) {
+		return this.favouriteClient.post(FavouriteDto.class, favouriteDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<FavouriteDto>> update(@RequestBody final FavouriteDto favouriteDto) {
+		return this.favouriteClient.put(FavouriteDto.class, favouriteDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{userId}/{productId}/{likeDate}")
+	public Mono<ResponseEntity<Boolean>> deleteById(
+			@PathVariable("userId") final String userId, 
+			@PathVariable("productId") final String productId, 
+			@PathVariable("likeDate") final String likeDate) {
+		return this.favouriteClient.delete("/{userId}/{productId}/{likeDate}", userId, productId, likeDate)
+				.thenReturn(ResponseEntity.ok(true));
+	}
+	
+	@DeleteMapping("/delete")
+	public Mono<ResponseEntity<Boolean>> deleteById(@RequestBody final FavouriteId favouriteId) {
+		return this.favouriteClient.deleteWithBody(favouriteId, "/delete")
+				.thenReturn(ResponseEntity.ok(true));
+	}
+	
+	
+	
+}
+
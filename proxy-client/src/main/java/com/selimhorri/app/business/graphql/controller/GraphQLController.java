@@ -0,0 +1,37 @@
+package com.selimhorri.app.business.graphql.controller;
+
+import java.util.Map;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.graphql.model.GraphQLRequest;
+import com.selimhorri.app.business.graphql.service.GraphQLService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/graphql")
+@RequiredArgsConstructor
+public class GraphQLController {
+	
+	private final GraphQLService graphQLService;
+	
+	@PostMapping
+	public ResponseEntity<Map<String, Object>> execute(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final GraphQLRequest graphQLRequest) {
+		return ResponseEntity.ok(this.graphQLService.execute(graphQLRequest));
+	}
+	
+	
+	
+}
+
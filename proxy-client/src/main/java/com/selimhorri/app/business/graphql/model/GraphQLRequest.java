@@ -0,0 +1,27 @@
+package com.selimhorri.app.business.graphql.model;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import javax.validation.constraints.NotBlank;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class GraphQLRequest implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@NotBlank(message = "Query must not be blank!")
+	private String query;
+	private String operationName;
+	private Map<String, Object> variables;
+	
+}
+
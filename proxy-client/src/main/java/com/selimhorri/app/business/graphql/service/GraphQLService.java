@@ -0,0 +1,12 @@
+package com.selimhorri.app.business.graphql.service;
+
+import java.util.Map;
+
+import com.selimhorri.app.business.graphql.model.GraphQLRequest;
+
+public interface GraphQLService {
+	
+	Map<String, Object> execute(final GraphQLRequest graphQLRequest);
+	
+}
+
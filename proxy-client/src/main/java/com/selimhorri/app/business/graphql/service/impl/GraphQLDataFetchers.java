@@ -0,0 +1,159 @@
+package com.selimhorri.app.business.graphql.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.dataloader.DataLoader;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.favourite.model.FavouriteDto;
+import com.selimhorri.app.business.favourite.model.response.FavouriteFavouriteServiceCollectionDtoResponse;
+import com.selimhorri.app.business.favourite.service.FavouriteClientService;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
+import com.selimhorri.app.business.user.service.UserClientService;
+import com.selimhorri.app.constant.AppConstant;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.idl.RuntimeWiring;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves the GraphQL schema against the existing Feign clients. List roots are 
+ * plain calls; every nested product, user, order or order-item lookup goes through 
+ * the request's DataLoaders, unless the downstream already embedded the full object.
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphQLDataFetchers {
+	
+	private static final DateTimeFormatter LOCAL_DATE_TIME_FORMATTER = 
+			DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT);
+	
+	private final ProductClientService productClientService;
+	private final UserClientService userClientService;
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final FavouriteClientService favouriteClientService;
+	
+	public RuntimeWiring runtimeWiring() {
+		return RuntimeWiring.newRuntimeWiring()
+				.type("Query", t -> t
+						.dataFetcher("products", env -> collection(this.productClientService
+								.findAll(env.getArgument("cursor"), env.getArgument("size")), 
+								ProductProductServiceCollectionDtoResponse::getCollection))
+						.dataFetcher("product", env -> load(env, GraphQLDataLoaders.PRODUCTS, env.getArgument("productId")))
+						.dataFetcher("users", env -> collection(this.userClientService.findAll(), 
+								UserUserServiceCollectionDtoResponse::getCollection))
+						.dataFetcher("user", env -> load(env, GraphQLDataLoaders.USERS, env.getArgument("userId")))
+						.dataFetcher("orders", env -> collection(this.orderClientService.findAll(), 
+								OrderOrderServiceDtoCollectionResponse::getCollection))
+						.dataFetcher("order", env -> load(env, GraphQLDataLoaders.ORDERS, env.getArgument("orderId")))
+						.dataFetcher("orderItems", env -> env.getArgument("orderId") == null 
+								? collection(this.orderItemClientService.findAll(), 
+										OrderItemOrderItemServiceDtoCollectionResponse::getCollection) 
+								: load(env, GraphQLDataLoaders.ORDER_ITEMS_BY_ORDER, env.getArgument("orderId")))
+						.dataFetcher("favourites", env -> collection(this.favouriteClientService.findAll(), 
+								FavouriteFavouriteServiceCollectionDtoResponse::getCollection)))
+				.type("Product", t -> t
+						.dataFetcher("category", source(ProductDto::getCategoryDto)))
+				.type("Cart", t -> t
+						.dataFetcher("user", env -> {
+							final CartDto cartDto = env.getSource();
+							return embeddedOrLoad(env, GraphQLDataLoaders.USERS, cartDto.getUserDto(), 
+									u -> u.getFirstName() != null, 
+									cartDto.getUserId() != null ? cartDto.getUserId() 
+											: Optional.ofNullable(cartDto.getUserDto())
+													.map(com.selimhorri.app.business.order.model.UserDto::getUserId)
+													.orElse(null));
+						}))
+				.type("Order", t -> t
+						.dataFetcher("orderDate", source(OrderDto::getOrderDate, GraphQLDataFetchers::format))
+						.dataFetcher("cart", source(OrderDto::getCartDto))
+						.dataFetcher("orderItems", env -> load(env, GraphQLDataLoaders.ORDER_ITEMS_BY_ORDER, 
+								env.<OrderDto>getSource().getOrderId())))
+				.type("OrderItem", t -> t
+						.dataFetcher("product", env -> {
+							final OrderItemDto orderItemDto = env.getSource();
+							return embeddedOrLoad(env, GraphQLDataLoaders.PRODUCTS, orderItemDto.getProductDto(), 
+									p -> p.getProductTitle() != null, orderItemDto.getProductId());
+						})
+						.dataFetcher("order", env -> {
+							final OrderItemDto orderItemDto = env.getSource();
+							return embeddedOrLoad(env, GraphQLDataLoaders.ORDERS, orderItemDto.getOrderDto(), 
+									o -> o.getOrderDate() != null, orderItemDto.getOrderId());
+						}))
+				.type("Favourite", t -> t
+						.dataFetcher("likeDate", source(FavouriteDto::getLikeDate, GraphQLDataFetchers::format))
+						.dataFetcher("user", env -> {
+							final FavouriteDto favouriteDto = env.getSource();
+							return embeddedOrLoad(env, GraphQLDataLoaders.USERS, favouriteDto.getUserDto(), 
+									u -> u.getFirstName() != null, favouriteDto.getUserId());
+						})
+						.dataFetcher("product", env -> {
+							final FavouriteDto favouriteDto = env.getSource();
+							return embeddedOrLoad(env, GraphQLDataLoaders.PRODUCTS, favouriteDto.getProductDto(), 
+									p -> p.getProductTitle() != null, favouriteDto.getProductId());
+						}))
+				.build();
+	}
+	
+	private static <R, T> Collection<T> collection(final ResponseEntity<R> response, final Function<R, Collection<T>> collection) {
+		return Optional.ofNullable(response.getBody())
+				.map(collection)
+				.orElseGet(List::of);
+	}
+	
+	private static <S, T> DataFetcher<T> source(final Function<S, T> property) {
+		return env -> property.apply(env.getSource());
+	}
+	
+	private static <S, P, T> DataFetcher<T> source(final Function<S, P> property, final Function<P, T> mapper) {
+		return env -> Optional.ofNullable(property.apply(env.getSource()))
+				.map(mapper)
+				.orElse(null);
+	}
+	
+	private static <V> CompletableFuture<V> load(final DataFetchingEnvironment env, final String loader, final Object id) {
+		if (id == null)
+			return CompletableFuture.completedFuture(null);
+		final DataLoader<Integer, V> dataLoader = env.getDataLoader(loader);
+		return dataLoader.load(Integer.valueOf(id.toString().strip()));
+	}
+	
+	/**
+	 * Services that already enriched their rows answer without another hop; ids 
+	 * pointing at a bare stub are batched through the loader instead.
+	 */
+	private static <V> CompletableFuture<Object> embeddedOrLoad(final DataFetchingEnvironment env, final String loader, 
+			final V embedded, final Predicate<V> complete, final Integer id) {
+		if (embedded != null && complete.test(embedded))
+			return CompletableFuture.completedFuture(embedded);
+		return load(env, loader, id);
+	}
+	
+	private static String format(final LocalDateTime localDateTime) {
+		return LOCAL_DATE_TIME_FORMATTER.format(localDateTime);
+	}
+	
+	
+	
+}
+
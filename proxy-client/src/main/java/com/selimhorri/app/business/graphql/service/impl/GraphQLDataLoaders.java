@@ -0,0 +1,137 @@
+package com.selimhorri.app.business.graphql.service.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.MappedBatchLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.business.user.model.UserDto;
+import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
+import com.selimhorri.app.business.user.service.UserClientService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Builds the per-request DataLoaders behind the GraphQL endpoint. Every product, 
+ * user or order asked for while resolving one level of a query is collected, 
+ * deduplicated and fetched in a single ?ids= call; results are cached for the rest 
+ * of the request only, so nothing leaks between callers.
+ */
+@Component
+public class GraphQLDataLoaders {
+	
+	public static final String PRODUCTS = "products";
+	public static final String USERS = "users";
+	public static final String ORDERS = "orders";
+	public static final String ORDER_ITEMS_BY_ORDER = "orderItemsByOrder";
+	
+	private final ProductClientService productClientService;
+	private final UserClientService userClientService;
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final ExecutorService fanOutExecutorService;
+	private final MeterRegistry meterRegistry;
+	private final int maxBatchSize;
+	
+	public GraphQLDataLoaders(final ProductClientService productClientService, 
+			final UserClientService userClientService, 
+			final OrderClientService orderClientService, 
+			final OrderItemClientService orderItemClientService, 
+			final ExecutorService fanOutExecutorService, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.graphql.max-batch-size:100}") final int maxBatchSize) {
+		this.productClientService = productClientService;
+		this.userClientService = userClientService;
+		this.orderClientService = orderClientService;
+		this.orderItemClientService = orderItemClientService;
+		this.fanOutExecutorService = fanOutExecutorService;
+		this.meterRegistry = meterRegistry;
+		this.maxBatchSize = maxBatchSize;
+	}
+	
+	public DataLoaderRegistry registry() {
+		return new DataLoaderRegistry()
+				.register(PRODUCTS, this.batched(PRODUCTS, productIds -> Optional
+						.ofNullable(this.productClientService.findAllByIds(productIds).getBody())
+						.map(ProductProductServiceCollectionDtoResponse::getCollection)
+						.orElseGet(List::of), ProductDto::getProductId))
+				.register(USERS, this.batched(USERS, userIds -> Optional
+						.ofNullable(this.userClientService.findAllByIds(userIds).getBody())
+						.map(UserUserServiceCollectionDtoResponse::getCollection)
+						.orElseGet(List::of), UserDto::getUserId))
+				.register(ORDERS, this.batched(ORDERS, orderIds -> Optional
+						.ofNullable(this.orderClientService.findAllByIds(orderIds).getBody())
+						.map(OrderOrderServiceDtoCollectionResponse::getCollection)
+						.orElseGet(List::of), OrderDto::getOrderId))
+				.register(ORDER_ITEMS_BY_ORDER, this.orderItemsByOrder());
+	}
+	
+	private <V> DataLoader<Integer, V> batched(final String name, 
+			final Function<Set<Integer>, Collection<V>> call, final Function<V, Integer> id) {
+		final MappedBatchLoader<Integer, V> batchLoader = keys -> this.async(() -> {
+			this.meterRegistry.summary("graphql.dataloader.batch.size", "loader", name).record(keys.size());
+			return call.apply(keys).stream()
+					.collect(Collectors.toMap(id, Function.identity(), (v1, v2) -> v1));
+		});
+		return DataLoaderFactory.newMappedDataLoader(batchLoader, 
+				DataLoaderOptions.newOptions().setMaxBatchSize(this.maxBatchSize));
+	}
+	
+	/**
+	 * shipping-service has no multi-order lookup, so each distinct order id still costs 
+	 * one call; the loader only dedupes them and runs them side by side.
+	 */
+	private DataLoader<Integer, List<OrderItemDto>> orderItemsByOrder() {
+		final MappedBatchLoader<Integer, List<OrderItemDto>> batchLoader = keys -> {
+			this.meterRegistry.summary("graphql.dataloader.batch.size", "loader", ORDER_ITEMS_BY_ORDER).record(keys.size());
+			final Map<Integer, CompletableFuture<List<OrderItemDto>>> futures = keys.stream()
+					.collect(Collectors.toMap(Function.identity(), orderId -> this.async(() -> Optional
+							.ofNullable(this.orderItemClientService.findAllByOrderId(String.valueOf(orderId)).getBody())
+							.map(OrderItemOrderItemServiceDtoCollectionResponse::getCollection)
+							.<List<OrderItemDto>>map(List::copyOf)
+							.orElseGet(List::of))));
+			return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+					.thenApply(v -> futures.entrySet().stream()
+							.collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().join())));
+		};
+		return DataLoaderFactory.newMappedDataLoader(batchLoader, 
+				DataLoaderOptions.newOptions().setMaxBatchSize(this.maxBatchSize));
+	}
+	
+	private <T> CompletableFuture<T> async(final Supplier<T> call) {
+		try {
+			return CompletableFuture.supplyAsync(call, this.fanOutExecutorService);
+		}
+		catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	
+	
+}
+
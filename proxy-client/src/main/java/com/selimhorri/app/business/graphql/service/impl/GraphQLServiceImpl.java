@@ -0,0 +1,39 @@
+package com.selimhorri.app.business.graphql.service.impl;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.graphql.model.GraphQLRequest;
+import com.selimhorri.app.business.graphql.service.GraphQLService;
+
+import graphql.ExecutionInput;
+import graphql.GraphQL;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GraphQLServiceImpl implements GraphQLService {
+	
+	private final GraphQL graphQL;
+	private final GraphQLDataLoaders graphQLDataLoaders;
+	
+	@Override
+	public Map<String, Object> execute(final GraphQLRequest graphQLRequest) {
+		log.info("**GraphQL, execute query service*\n");
+		return this.graphQL.execute(ExecutionInput.newExecutionInput()
+					.query(graphQLRequest.getQuery())
+					.operationName(graphQLRequest.getOperationName())
+					.variables(Optional.ofNullable(graphQLRequest.getVariables()).orElseGet(Map::of))
+					.dataLoaderRegistry(this.graphQLDataLoaders.registry())
+					.build())
+				.toSpecification();
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,105 @@
+package com.selimhorri.app.business.order.controller;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.response.CartOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of CartController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/carts")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class CartReactiveController {
+	
+	private final DownstreamWebClient cartClient;
+	
+	public CartReactiveController(final WebClient downstreamWebClient) {
+		this.cartClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_HOST + "/api/carts");
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<CartOrderServiceDtoCollectionResponse>> findAll() {
+		return this.cartClient.get(CartOrderServiceDtoCollectionResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{cartId}")
+	public Mono<ResponseEntity<CartDto>> findById(
+			@PathVariable("cartId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String cartId) {
+		return this.cartClient.get(CartDto.class, "/{cartId}", cartId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<CartDto>> save(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CartDto cartDto) {
+		return this.cartClient.post(CartDto.class, cartDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<CartDto>> update(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CartDto cartDto) {
+		return this.cartClient.put(CartDto.class, cartDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping("/{cartId}")
+	public Mono<ResponseEntity<CartDto>> update(
+			@PathVariable("cartId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String cartId,
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final CartDto cartDto) {
+		return this.cartClient.put(CartDto.class, cartDto, "/{cartId}", cartId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{cartId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("cartId") final String cartId) {
+		return this.cartClient.delete("/{cartId}", cartId)
+				.thenReturn(ResponseEntity.ok(true));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,105 @@
+package com.selimhorri.app.business.order.controller;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of OrderController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class OrderReactiveController {
+	
+	private final DownstreamWebClient orderClient;
+	
+	public OrderReactiveController(final WebClient downstreamWebClient) {
+		this.orderClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL);
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<OrderOrderServiceDtoCollectionResponse>> findAll() {
+		return this.orderClient.get(OrderOrderServiceDtoCollectionResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{orderId}")
+	public Mono<ResponseEntity<OrderDto>> findById(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String orderId) {
+		return this.orderClient.get(OrderDto.class, "/{orderId}", orderId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<OrderDto>> save(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final OrderDto orderDto) {
+		return this.orderClient.post(OrderDto.class, orderDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<OrderDto>> update(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final OrderDto orderDto) {
+		return this.orderClient.put(OrderDto.class, orderDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping("/{orderId}")
+	public Mono<ResponseEntity<OrderDto>> update(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String orderId,
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final OrderDto orderDto) {
+		return this.orderClient.put(OrderDto.class, orderDto, "/{orderId}", orderId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{orderId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("orderId") final String orderId) {
+		return this.orderClient.delete("/{orderId}", orderId)
+				.thenReturn(ResponseEntity.ok(true));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,44 @@
+package com.selimhorri.app.business.order.model;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderDetailsDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("order")
+	private OrderDto orderDto;
+	
+	@JsonProperty("orderItems")
+	@JsonInclude(Include.NON_NULL)
+	private Collection<OrderItemDto> orderItemDtos;
+	
+	@JsonProperty("payments")
+	@JsonInclude(Include.NON_NULL)
+	private Collection<PaymentDto> paymentDtos;
+	
+	/**
+	 * Dependencies that failed or timed out; their sections are left out of the response.
+	 */
+	@JsonInclude(Include.NON_EMPTY)
+	private Set<String> unavailable;
+	
+}
+
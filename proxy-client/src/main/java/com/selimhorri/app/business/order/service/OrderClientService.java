@@ -1,7 +1,10 @@
 package com.selimhorri.app.business.order.service;
 
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.cloud.openfeign.FeignClient;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.order.model.OrderDto;
 import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
@@ -22,6 +26,12 @@ public interface OrderClientService {
 	@GetMapping
 	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll();
 	
+	@GetMapping(params = "ids")
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAllByIds(
+			@RequestParam("ids") 
+			@NotEmpty(message = "Input must not be empty!") 
+			@Valid final Set<Integer> orderIds);
+	
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> findById(
 			@PathVariable("orderId") 
@@ -0,0 +1,163 @@
+package com.selimhorri.app.business.order.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.order.model.OrderDetailsDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.order.service.OrderDetailsService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds an order page from order-service, shipping-service and payment-service in 
+ * one round trip. The three calls run concurrently, each under its own timeout. 
+ * The order is required and answers 503 when it cannot be fetched in time; order 
+ * items and payments are best effort and are reported as unavailable when their call 
+ * fails or times out. A timed out call is cancelled so it gives its fan-out thread 
+ * back; a call blocked on the socket is still bounded by the HTTP read timeout.
+ */
+@Service
+@Slf4j
+public class OrderDetailsServiceImpl implements OrderDetailsService {
+	
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final PaymentClientService paymentClientService;
+	private final ExecutorService fanOutExecutorService;
+	private final MeterRegistry meterRegistry;
+	private final Duration orderTimeout;
+	private final Duration orderItemsTimeout;
+	private final Duration paymentsTimeout;
+	
+	public OrderDetailsServiceImpl(final OrderClientService orderClientService, 
+			final OrderItemClientService orderItemClientService, 
+			final PaymentClientService paymentClientService, 
+			final ExecutorService fanOutExecutorService, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.order-details.timeout.order:2s}") final Duration orderTimeout, 
+			@Value("${app.order-details.timeout.order-items:2s}") final Duration orderItemsTimeout, 
+			@Value("${app.order-details.timeout.payments:1s}") final Duration paymentsTimeout) {
+		this.orderClientService = orderClientService;
+		this.orderItemClientService = orderItemClientService;
+		this.paymentClientService = paymentClientService;
+		this.fanOutExecutorService = fanOutExecutorService;
+		this.meterRegistry = meterRegistry;
+		this.orderTimeout = orderTimeout;
+		this.orderItemsTimeout = orderItemsTimeout;
+		this.paymentsTimeout = paymentsTimeout;
+	}
+	
+	@Override
+	public OrderDetailsDto findById(final String orderId) {
+		
+		log.info("** OrderDetailsDto, fetch order details service*\n");
+		
+		final CompletableFuture<OrderDto> orderDto = this.fetch("order", this.orderTimeout, 
+				() -> this.orderClientService.findById(orderId).getBody());
+		final CompletableFuture<Collection<OrderItemDto>> orderItemDtos = this.fetch("order-items", this.orderItemsTimeout, 
+				() -> Optional.ofNullable(this.orderItemClientService.findAllByOrderId(orderId).getBody())
+						.map(OrderItemOrderItemServiceDtoCollectionResponse::getCollection)
+						.orElseGet(List::of));
+		final CompletableFuture<Collection<PaymentDto>> paymentDtos = this.fetch("payments", this.paymentsTimeout, 
+				() -> Optional.ofNullable(this.paymentClientService.findAllByOrderId(orderId).getBody())
+						.map(PaymentPaymentServiceDtoCollectionResponse::getCollection)
+						.orElseGet(List::of));
+		
+		final Set<String> unavailable = new TreeSet<>();
+		return OrderDetailsDto.builder()
+				.orderDto(this.required(orderDto, orderId))
+				.orderItemDtos(this.optional(orderItemDtos, "order-items", unavailable))
+				.paymentDtos(this.optional(paymentDtos, "payments", unavailable))
+				.unavailable(unavailable)
+				.build();
+	}
+	
+	private <T> CompletableFuture<T> fetch(final String dependency, final Duration timeout, final Supplier<T> call) {
+		final Timer.Sample sample = Timer.start(this.meterRegistry);
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			final Future<?> task = this.fanOutExecutorService.submit(() -> {
+				try {
+					future.complete(call.get());
+				}
+				catch (RuntimeException e) {
+					future.completeExceptionally(e);
+				}
+			});
+			future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+					.whenComplete((result, e) -> {
+						if (e != null)
+							task.cancel(true);
+					});
+		}
+		catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		return future.whenComplete((result, e) -> sample.stop(this.meterRegistry
+				.timer("order.details.dependency", "dependency", dependency, "outcome", outcome(e))));
+	}
+	
+	private OrderDto required(final CompletableFuture<OrderDto> orderDto, final String orderId) {
+		try {
+			return orderDto.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException && !(e.getCause() instanceof RejectedExecutionException))
+				throw (RuntimeException) e.getCause();
+			throw new DownstreamUnavailableException(String
+					.format("Order with id: %s could not be fetched in time", orderId), e.getCause());
+		}
+	}
+	
+	private <T> T optional(final CompletableFuture<T> future, final String dependency, final Set<String> unavailable) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			log.info("** Order details, {} unavailable: {}*\n", dependency, e.getCause().toString());
+			unavailable.add(dependency);
+			return null;
+		}
+	}
+	
+	private static String outcome(final Throwable e) {
+		if (e == null)
+			return "success";
+		final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+		if (cause instanceof TimeoutException)
+			return "timeout";
+		if (cause instanceof RejectedExecutionException)
+			return "rejected";
+		return "error";
+	}
+	
+	
+	
+}
+
@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.orderItem.controller;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/shippings")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "feign", matchIfMissing = true)
 @RequiredArgsConstructor
 public class OrderItemController {
 	
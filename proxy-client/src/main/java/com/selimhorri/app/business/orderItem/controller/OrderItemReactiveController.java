@@ -0,0 +1,90 @@
+package com.selimhorri.app.business.orderItem.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.OrderItemId;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of OrderItemController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/shippings")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class OrderItemReactiveController {
+	
+	private final DownstreamWebClient orderItemClient;
+	
+	public OrderItemReactiveController(final WebClient downstreamWebClient) {
+		this.orderItemClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.SHIPPING_SERVICE_API_URL);
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse>> findAll() {
+		return this.orderItemClient.get(OrderItemOrderItemServiceDtoCollectionResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{orderId}/{productId}")
+	public Mono<ResponseEntity<OrderItemDto>> findById(
+			@PathVariable("orderId") final String orderId, 
+			@PathVariable("productId") final String productId) {
+		return this.orderItemClient.getWithBody(OrderItemDto.class, new OrderItemId(Integer.parseInt(productId), 
+					Integer.parseInt(orderId)), "/find")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/find")
+	public Mono<ResponseEntity<OrderItemDto>> findById(@RequestBody final OrderItemId orderItemId) {
+		return this.orderItemClient.getWithBody(OrderItemDto.class, orderItemId, "/find")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<OrderItemDto>> save(@RequestBody final OrderItemDto orderItemDto) {
+		return this.orderItemClient.post(OrderItemDto.class, orderItemDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<OrderItemDto>> update(@RequestBody final OrderItemDto orderItemDto) {
+		return this.orderItemClient.put(OrderItemDto.class, orderItemDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{orderId}/{productId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(
+			@PathVariable("orderId") final String orderId, 
+			@PathVariable("productId") final String productId) {
+		return this.orderItemClient.deleteWithBody(new OrderItemId(Integer.parseInt(orderId), 
+					Integer.parseInt(productId)), "/delete")
+				.thenReturn(ResponseEntity.ok(true));
+	}
+	
+	@DeleteMapping("/delete")
+	public Mono<ResponseEntity<Boolean>> deleteById(@RequestBody final OrderItemId orderItemId) {
+		return this.orderItemClient.deleteWithBody(orderItemId, "/delete")
+				.thenReturn(ResponseEntity.ok(true));
+	}
+	
+	
+	
+}
+
@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.payment.controller;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/payments")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "feign", matchIfMissing = true)
 @RequiredArgsConstructor
 public class PaymentController {
 	
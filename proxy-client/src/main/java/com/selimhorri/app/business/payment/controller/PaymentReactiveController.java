@@ -0,0 +1,80 @@
+package com.selimhorri.app.business.payment.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of PaymentController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/payments")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class PaymentReactiveController {
+	
+	private final DownstreamWebClient paymentClient;
+	
+	public PaymentReactiveController(final WebClient downstreamWebClient) {
+		this.paymentClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.PAYMENT_SERVICE_API_URL);
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<PaymentPaymentServiceDtoCollectionResponse>> findAll() {
+		return this.paymentClient.get(PaymentPaymentServiceDtoCollectionResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{paymentId}")
+	public Mono<ResponseEntity<PaymentDto>> findById(@PathVariable("paymentId") final String paymentId) {
+		return this.paymentClient.get(PaymentDto.class, "/{paymentId}", paymentId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<PaymentDto>> save(@RequestBody final PaymentDto paymentDto) {
+		return this.paymentClient.post(PaymentDto.class, paymentDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<PaymentDto>> update(@RequestBody final PaymentDto paymentDto) {
+		return this.paymentClient.put(PaymentDto.class, paymentDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{paymentId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("paymentId") final String paymentId) {
+		return this.paymentClient.delete("/{paymentId}", paymentId)
+				.map(ResponseEntity::ok);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
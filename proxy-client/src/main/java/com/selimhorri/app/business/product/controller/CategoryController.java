@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.product.controller;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
@@ -18,14 +20,17 @@ import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/categories")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "feign", matchIfMissing = true)
 @RequiredArgsConstructor
 public class CategoryController {
 	
 	private final CategoryClientService categoryClientService;
 	
 	@GetMapping
-	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(value = "cursor", required = false) final String cursor, 
+			@RequestParam(value = "size", required = false) final Integer size) {
+		return ResponseEntity.ok(this.categoryClientService.findAll(cursor, size).getBody());
 	}
 	
 	@GetMapping("/{categoryId}")
@@ -0,0 +1,95 @@
+package com.selimhorri.app.business.product.controller;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.product.model.CategoryDto;
+import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of CategoryController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/categories")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class CategoryReactiveController {
+	
+	private final DownstreamWebClient categoryClient;
+	
+	public CategoryReactiveController(final WebClient downstreamWebClient) {
+		this.categoryClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_HOST + "/api/categories");
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<CategoryProductServiceCollectionDtoResponse>> findAll(
+			@RequestParam(value = "cursor", required = false) final String cursor, 
+			@RequestParam(value = "size", required = false) final Integer size) {
+		return this.categoryClient.get(CategoryProductServiceCollectionDtoResponse.class, uriBuilder -> uriBuilder
+					.queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+					.queryParamIfPresent("size", Optional.ofNullable(size))
+					.build())
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{categoryId}")
+	public Mono<ResponseEntity<CategoryDto>> findById(@PathVariable("categoryId") final String categoryId) {
+		return this.categoryClient.get(CategoryDto.class, "/{categoryId}", categoryId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<CategoryDto>> save(@RequestBody final CategoryDto categoryDto) {
+		return this.categoryClient.post(CategoryDto.class, categoryDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<CategoryDto>> update(@RequestBody final CategoryDto categoryDto) {
+		return this.categoryClient.put(CategoryDto.class, categoryDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping("/{categoryId}")
+	public Mono<ResponseEntity<CategoryDto>> update(@PathVariable("categoryId") final String categoryId, 
+			@RequestBody final CategoryDto categoryDto) {
+		return this.categoryClient.put(CategoryDto.class, categoryDto, "/{categoryId}", categoryId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{categoryId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("categoryId") final String categoryId) {
+		return this.categoryClient.delete("/{categoryId}", categoryId)
+				.map(ResponseEntity::ok);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,95 @@
+package com.selimhorri.app.business.product.controller;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of ProductController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/products")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class ProductReactiveController {
+	
+	private final DownstreamWebClient productClient;
+	
+	public ProductReactiveController(final WebClient downstreamWebClient) {
+		this.productClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL);
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<ProductProductServiceCollectionDtoResponse>> findAll(
+			@RequestParam(value = "cursor", required = false) final String cursor, 
+			@RequestParam(value = "size", required = false) final Integer size) {
+		return this.productClient.get(ProductProductServiceCollectionDtoResponse.class, uriBuilder -> uriBuilder
+					.queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+					.queryParamIfPresent("size", Optional.ofNullable(size))
+					.build())
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{productId}")
+	public Mono<ResponseEntity<ProductDto>> findById(@PathVariable("productId") final String productId) {
+		return this.productClient.get(ProductDto.class, "/{productId}", productId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<ProductDto>> save(@RequestBody final ProductDto productDto) {
+		return this.productClient.post(ProductDto.class, productDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<ProductDto>> update(@RequestBody final ProductDto productDto) {
+		return this.productClient.put(ProductDto.class, productDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping("/{productId}")
+	public Mono<ResponseEntity<ProductDto>> update(@PathVariable("productId") final String productId, 
+			@RequestBody final ProductDto productDto) {
+		return this.productClient.put(ProductDto.class, productDto, "/{productId}", productId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{productId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("productId") final String productId) {
+		return this.productClient.delete("/{productId}", productId)
+				.map(ResponseEntity::ok);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
@@ -20,7 +21,9 @@ import com.selimhorri.app.business.product.model.response.CategoryProductService
 public interface CategoryClientService {
 	
 	@GetMapping
-	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll();
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(value = "cursor", required = false) final String cursor, 
+			@RequestParam(value = "size", required = false) final Integer size);
 	
 	@GetMapping("/{categoryId}")
 	ResponseEntity<CategoryDto> findById(
@@ -1,7 +1,10 @@
 package com.selimhorri.app.business.product.service;
 
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.cloud.openfeign.FeignClient;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.ProductDto;
 import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
@@ -20,7 +24,15 @@ import com.selimhorri.app.business.product.model.response.ProductProductServiceC
 public interface ProductClientService {
 	
 	@GetMapping
-	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll();
+	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(value = "cursor", required = false) final String cursor, 
+			@RequestParam(value = "size", required = false) final Integer size);
+	
+	@GetMapping(params = "ids")
+	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAllByIds(
+			@RequestParam("ids") 
+			@NotEmpty(message = "Input must not be empty!") 
+			@Valid final Set<Integer> productIds);
 	
 	@GetMapping("/{productId}")
 	ResponseEntity<ProductDto> findById(
@@ -0,0 +1,87 @@
+package com.selimhorri.app.business.user.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.user.model.AddressDto;
+import com.selimhorri.app.business.user.model.response.AddressUserServiceCollectionDtoResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of AddressController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/address")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class AddressReactiveController {
+	
+	private final DownstreamWebClient addressClient;
+	
+	public AddressReactiveController(final WebClient downstreamWebClient) {
+		this.addressClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/address");
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<AddressUserServiceCollectionDtoResponse>> findAll() {
+		return this.addressClient.get(AddressUserServiceCollectionDtoResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{addressId}")
+	public Mono<ResponseEntity<AddressDto>> findById(@PathVariable("addressId") final String addressId) {
+		return this.addressClient.get(AddressDto.class, "/{addressId}", addressId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<AddressDto>> save(@RequestBody final AddressDto addressDto) {
+		return this.addressClient.post(AddressDto.class, addressDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<AddressDto>> update(@RequestBody final AddressDto addressDto) {
+		return this.addressClient.put(AddressDto.class, addressDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping("/{addressId}")
+	public Mono<ResponseEntity<AddressDto>> update(@PathVariable("addressId") final String addressId, 
+			@RequestBody final AddressDto addressDto) {
+		return this.addressClient.put(AddressDto.class, addressDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{addressId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("addressId") final String addressId) {
+		return this.addressClient.delete("/{addressId}", addressId)
+				.map(ResponseEntity::ok);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.user.controller;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.business.auth.service.CachedUserDetailsService;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
@@ -18,10 +20,12 @@ import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/credentials")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "feign", matchIfMissing = true)
 @RequiredArgsConstructor
 public class CredentialController {
 	
 	private final CredentialClientService credentialClientService;
+	private final CachedUserDetailsService cachedUserDetailsService;
 	
 	@GetMapping
 	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll() {
@@ -45,17 +49,32 @@ public class CredentialController {
 	
 	@PutMapping
 	public ResponseEntity<CredentialDto> update(@RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final CredentialDto updated = this.credentialClientService.update(credentialDto).getBody();
+		this.evict(credentialDto.getCredentialId(), credentialDto);
+		return ResponseEntity.ok(updated);
 	}
 	
 	@PutMapping("/{credentialId}")
 	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final CredentialDto updated = this.credentialClientService.update(credentialDto).getBody();
+		this.evict(Integer.parseInt(credentialId), credentialDto);
+		return ResponseEntity.ok(updated);
 	}
 	
 	@DeleteMapping("/{credentialId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
-		return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
+		final Boolean deleted = this.credentialClientService.deleteById(credentialId).getBody();
+		this.cachedUserDetailsService.evictByCredentialId(Integer.parseInt(credentialId));
+		return ResponseEntity.ok(deleted);
+	}
+	
+	/**
+	 * Drops the cached UserDetails of a changed credential, so a new password, 
+	 * role or disabled flag takes effect on the next request instead of after the TTL.
+	 */
+	private void evict(final Integer credentialId, final CredentialDto credentialDto) {
+		this.cachedUserDetailsService.evictByCredentialId(credentialId);
+		this.cachedUserDetailsService.evictByUsername(credentialDto.getUsername());
 	}
 	
 	
@@ -0,0 +1,95 @@
+package com.selimhorri.app.business.user.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.auth.service.CachedUserDetailsService;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of CredentialController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/credentials")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class CredentialReactiveController {
+	
+	private final DownstreamWebClient credentialClient;
+	private final CachedUserDetailsService cachedUserDetailsService;
+	
+	public CredentialReactiveController(final WebClient downstreamWebClient, 
+			final CachedUserDetailsService cachedUserDetailsService) {
+		this.credentialClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/credentials");
+		this.cachedUserDetailsService = cachedUserDetailsService;
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<CredentialUserServiceCollectionDtoResponse>> findAll() {
+		return this.credentialClient.get(CredentialUserServiceCollectionDtoResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{credentialId}")
+	public Mono<ResponseEntity<CredentialDto>> findById(@PathVariable("credentialId") final String credentialId) {
+		return this.credentialClient.get(CredentialDto.class, "/{credentialId}", credentialId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/username/{username}")
+	public Mono<ResponseEntity<CredentialDto>> findByCredentialname(@PathVariable("username") final String username) {
+		return this.credentialClient.get(CredentialDto.class, "/username/{username}", username)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<CredentialDto>> save(@RequestBody final CredentialDto credentialDto) {
+		return this.credentialClient.post(CredentialDto.class, credentialDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<CredentialDto>> update(@RequestBody final CredentialDto credentialDto) {
+		return this.credentialClient.put(CredentialDto.class, credentialDto, "")
+				.doOnSuccess(updated -> this.evict(credentialDto.getCredentialId(), credentialDto))
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping("/{credentialId}")
+	public Mono<ResponseEntity<CredentialDto>> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
+		return this.credentialClient.put(CredentialDto.class, credentialDto, "")
+				.doOnSuccess(updated -> this.evict(Integer.parseInt(credentialId), credentialDto))
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{credentialId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("credentialId") final String credentialId) {
+		return this.credentialClient.delete("/{credentialId}", credentialId)
+				.doOnSuccess(deleted -> this.cachedUserDetailsService.evictByCredentialId(Integer.parseInt(credentialId)))
+				.map(ResponseEntity::ok);
+	}
+	
+	private void evict(final Integer credentialId, final CredentialDto credentialDto) {
+		this.cachedUserDetailsService.evictByCredentialId(credentialId);
+		this.cachedUserDetailsService.evictByUsername(credentialDto.getUsername());
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,93 @@
+package com.selimhorri.app.business.user.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.user.model.UserDto;
+import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of UserController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/users")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class UserReactiveController {
+	
+	private final DownstreamWebClient userClient;
+	
+	public UserReactiveController(final WebClient downstreamWebClient) {
+		this.userClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL);
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<UserUserServiceCollectionDtoResponse>> findAll() {
+		return this.userClient.get(UserUserServiceCollectionDtoResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{userId}")
+	public Mono<ResponseEntity<UserDto>> findById(@PathVariable("userId") final String userId) {
+		return this.userClient.get(UserDto.class, "/{userId}", userId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/username/{username}")
+	public Mono<ResponseEntity<UserDto>> findByUsername(@PathVariable("username") final String username) {
+		return this.userClient.get(UserDto.class, "/username/{username}", username)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<UserDto>> save(@RequestBody final UserDto userDto) {
+		return this.userClient.post(UserDto.class, userDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<UserDto>> update(@RequestBody final UserDto userDto) {
+		return this.userClient.put(UserDto.class, userDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping("/{userId}")
+	public Mono<ResponseEntity<UserDto>> update(@PathVariable("userId") final String userId, 
+			@RequestBody final UserDto userDto) {
+		return this.userClient.put(UserDto.class, userDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{userId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("userId") final String userId) {
+		return this.userClient.delete("/{userId}", userId)
+				.map(ResponseEntity::ok);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
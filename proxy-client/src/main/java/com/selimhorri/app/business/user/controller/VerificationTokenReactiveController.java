@@ -0,0 +1,87 @@
+package com.selimhorri.app.business.user.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.business.user.model.VerificationTokenDto;
+import com.selimhorri.app.business.user.model.response.VerificationUserTokenServiceCollectionDtoResponse;
+import com.selimhorri.app.config.client.DownstreamWebClient;
+import com.selimhorri.app.constant.AppConstant;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of VerificationTokenController, active when app.client.mode is reactive. 
+ * No servlet thread is held while the downstream call is in flight.
+ */
+@RestController
+@RequestMapping("/api/verificationTokens")
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class VerificationTokenReactiveController {
+	
+	private final DownstreamWebClient verificationTokenClient;
+	
+	public VerificationTokenReactiveController(final WebClient downstreamWebClient) {
+		this.verificationTokenClient = new DownstreamWebClient(downstreamWebClient, 
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/verificationTokens");
+	}
+	
+	@GetMapping
+	public Mono<ResponseEntity<VerificationUserTokenServiceCollectionDtoResponse>> findAll() {
+		return this.verificationTokenClient.get(VerificationUserTokenServiceCollectionDtoResponse.class, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@GetMapping("/{verificationTokenId}")
+	public Mono<ResponseEntity<VerificationTokenDto>> findById(@PathVariable("verificationTokenId") final String verificationTokenId) {
+		return this.verificationTokenClient.get(VerificationTokenDto.class, "/{verificationTokenId}", verificationTokenId)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PostMapping
+	public Mono<ResponseEntity<VerificationTokenDto>> save(@RequestBody final VerificationTokenDto verificationTokenDto) {
+		return this.verificationTokenClient.post(VerificationTokenDto.class, verificationTokenDto)
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping
+	public Mono<ResponseEntity<VerificationTokenDto>> update(@RequestBody final VerificationTokenDto verificationTokenDto) {
+		return this.verificationTokenClient.put(VerificationTokenDto.class, verificationTokenDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@PutMapping("/{verificationTokenId}")
+	public Mono<ResponseEntity<VerificationTokenDto>> update(@PathVariable("verificationTokenId") final String verificationTokenId, 
+			@RequestBody final VerificationTokenDto verificationTokenDto) {
+		return this.verificationTokenClient.put(VerificationTokenDto.class, verificationTokenDto, "")
+				.map(ResponseEntity::ok);
+	}
+	
+	@DeleteMapping("/{verificationTokenId}")
+	public Mono<ResponseEntity<Boolean>> deleteById(@PathVariable("verificationTokenId") final String verificationTokenId) {
+		return this.verificationTokenClient.delete("/{verificationTokenId}", verificationTokenId)
+				.map(ResponseEntity::ok);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
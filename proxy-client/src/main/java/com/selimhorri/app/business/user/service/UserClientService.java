@@ -1,7 +1,10 @@
 package com.selimhorri.app.business.user.service;
 
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.cloud.openfeign.FeignClient;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.user.model.UserDto;
 import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
@@ -22,6 +26,12 @@ public interface UserClientService {
 	@GetMapping
 	ResponseEntity<UserUserServiceCollectionDtoResponse> findAll();
 	
+	@GetMapping(params = "ids")
+	ResponseEntity<UserUserServiceCollectionDtoResponse> findAllByIds(
+			@RequestParam("ids") 
+			@NotEmpty(message = "Input must not be empty!") 
+			@Valid final Set<Integer> userIds);
+	
 	@GetMapping("/{userId}")
 	ResponseEntity<UserDto> findById(
 			@PathVariable("userId") 
@@ -0,0 +1,79 @@
+package com.selimhorri.app.config.auth;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.selimhorri.app.exception.wrapper.LoginCapacityExceededException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs password verification on its own small, bounded pool so a burst of logins 
+ * can only saturate that pool. When its queue is full the login is rejected at once 
+ * instead of piling up on the servlet threads that serve the rest of the API.
+ */
+@RequiredArgsConstructor
+public class LoginBulkhead {
+	
+	private final ExecutorService executorService;
+	private final Duration timeout;
+	private final MeterRegistry meterRegistry;
+	
+	public <T> T execute(final Supplier<T> login) {
+		
+		final long submittedAt = System.nanoTime();
+		final Future<T> result;
+		try {
+			result = this.executorService.submit(() -> {
+				this.meterRegistry.timer("login.queue.wait")
+						.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				return login.get();
+			});
+		}
+		catch (RejectedExecutionException e) {
+			this.meterRegistry.counter("login.rejected", "reason", "queue-full").increment();
+			throw new LoginCapacityExceededException("Too many concurrent logins, retry shortly", e);
+		}
+		
+		try {
+			return result.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new IllegalStateException(e.getCause());
+		}
+		catch (TimeoutException e) {
+			result.cancel(true);
+			this.meterRegistry.counter("login.rejected", "reason", "timeout").increment();
+			throw new LoginCapacityExceededException("Login took too long, retry shortly", e);
+		}
+		catch (InterruptedException e) {
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new LoginCapacityExceededException("Login was interrupted", e);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,53 @@
+package com.selimhorri.app.config.auth;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+public class LoginBulkheadConfig {
+	
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService loginExecutorService(
+			@Value("${app.login.pool-size:2}") final int poolSize, 
+			@Value("${app.login.queue-capacity:32}") final int queueCapacity, 
+			final MeterRegistry meterRegistry) {
+		return ExecutorServiceMetrics.monitor(meterRegistry, 
+				new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, 
+						new ArrayBlockingQueue<>(queueCapacity), 
+						new CustomizableThreadFactory("login-"), 
+						new ThreadPoolExecutor.AbortPolicy()), 
+				"login");
+	}
+	
+	@Bean
+	public LoginBulkhead loginBulkhead(
+			final ExecutorService loginExecutorService, 
+			@Value("${app.login.timeout:5s}") final Duration timeout, 
+			final MeterRegistry meterRegistry) {
+		return new LoginBulkhead(loginExecutorService, timeout, meterRegistry);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+public class UserDetailsCacheConfig {
+	
+	@Bean
+	public Cache<String, UserDetailsImpl> userDetailsCache(
+			@Value("${app.user-details-cache.maximum-size:10000}") final long maximumSize, 
+			@Value("${app.user-details-cache.time-to-live:2m}") final Duration timeToLive, 
+			final MeterRegistry meterRegistry) {
+		return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(timeToLive)
+				.recordStats()
+				.<String, UserDetailsImpl>build(), "user-details");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,201 @@
+package com.selimhorri.app.config.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
+
+import feign.Capability;
+import feign.Client;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * One circuit breaker (PRODUCT-SERVICE uses the productService instance) and one cap 
+ * on concurrent calls per downstream service, shared by the Feign clients, the 
+ * RestTemplate and the WebClient. A call is refused at once with 
+ * DownstreamUnavailableException when the breaker is open or no slot frees up within 
+ * the wait, so a dead dependency answers 503 instead of holding request threads. 
+ * Server errors, I/O failures and services without instances count against the 
+ * breaker, client errors do not. As a Feign capability it is picked up by every Feign client and wraps the 
+ * load-balanced client, so it still sees the service id in the request URL.
+ */
+public class DownstreamGuard implements Capability {
+	
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+	private final int maxConcurrentCalls;
+	private final Duration maxWait;
+	private final MeterRegistry meterRegistry;
+	
+	public DownstreamGuard(final CircuitBreakerRegistry circuitBreakerRegistry, 
+			final int maxConcurrentCalls, final Duration maxWait, final MeterRegistry meterRegistry) {
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+		this.maxConcurrentCalls = maxConcurrentCalls;
+		this.maxWait = maxWait;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	/**
+	 * Takes a breaker permission and a call slot; the caller must settle the permit 
+	 * exactly once. Non-blocking callers pass a zero wait.
+	 */
+	public Permit acquire(final URI uri, final Duration wait) {
+		
+		final String serviceId = Optional.ofNullable(uri.getHost()).orElse("unknown");
+		final CircuitBreaker circuitBreaker = this.circuitBreakerRegistry.circuitBreaker(circuitBreakerName(serviceId));
+		if (!circuitBreaker.tryAcquirePermission()) {
+			this.rejected(serviceId, "circuit-open");
+			throw new DownstreamUnavailableException(String.format("%s is unavailable, circuit breaker %s is %s", 
+					serviceId, circuitBreaker.getName(), circuitBreaker.getState()));
+		}
+		
+		final Semaphore bulkhead = this.bulkheads.computeIfAbsent(serviceId, k -> new Semaphore(this.maxConcurrentCalls));
+		boolean acquired = false;
+		try {
+			acquired = bulkhead.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (!acquired) {
+			circuitBreaker.releasePermission();
+			this.rejected(serviceId, "bulkhead-full");
+			throw new DownstreamUnavailableException(String.format("%s is busy, no free call slot within %s", serviceId, wait));
+		}
+		
+		return new Permit(circuitBreaker, bulkhead);
+	}
+	
+	public ClientHttpRequestInterceptor clientHttpRequestInterceptor() {
+		return (request, body, execution) -> {
+			final Permit permit = this.acquire(request.getURI(), this.maxWait);
+			try {
+				final ClientHttpResponse response = execution.execute(request, body);
+				permit.onResponse(response.getRawStatusCode());
+				return response;
+			}
+			catch (IllegalStateException e) {
+				// how the load balancer reports a service without registered instances
+				permit.onError(e);
+				throw new DownstreamUnavailableException(String.format("%s is unavailable: %s", 
+						request.getURI().getHost(), e.getMessage()), e);
+			}
+			catch (IOException | RuntimeException e) {
+				permit.onError(e);
+				throw e;
+			}
+		};
+	}
+	
+	@Override
+	public Client enrich(final Client client) {
+		return (request, options) -> {
+			final Permit permit = this.acquire(URI.create(request.url()), this.maxWait);
+			try {
+				final feign.Response response = client.execute(request, options);
+				permit.onResponse(response.status());
+				return response;
+			}
+			catch (IOException | RuntimeException e) {
+				permit.onError(e);
+				throw e;
+			}
+		};
+	}
+	
+	/**
+	 * Must sit before the load-balancer filter, which replaces the service id in the 
+	 * URL with a concrete instance address.
+	 */
+	public ExchangeFilterFunction exchangeFilterFunction() {
+		return (request, next) -> Mono.defer(() -> {
+			final Permit permit = this.acquire(request.url(), Duration.ZERO);
+			return next.exchange(request)
+					.doOnNext(response -> permit.onResponse(response.rawStatusCode()))
+					.doOnError(permit::onError)
+					.doOnCancel(permit::onCancel);
+		});
+	}
+	
+	/**
+	 * Breaker instances follow the camel-case naming of the resilience4j block in 
+	 * application.yml, e.g. USER-SERVICE maps to userService.
+	 */
+	static String circuitBreakerName(final String serviceId) {
+		final String[] parts = serviceId.toLowerCase(Locale.ROOT).split("-");
+		return parts[0] + Arrays.stream(parts, 1, parts.length)
+				.map(StringUtils::capitalize)
+				.collect(Collectors.joining());
+	}
+	
+	private void rejected(final String serviceId, final String reason) {
+		this.meterRegistry.counter("http.client.requests.rejected", "clientName", serviceId, "reason", reason).increment();
+	}
+	
+	public static final class Permit {
+		
+		private final CircuitBreaker circuitBreaker;
+		private final Semaphore bulkhead;
+		private final long start;
+		private final AtomicBoolean settled = new AtomicBoolean();
+		
+		private Permit(final CircuitBreaker circuitBreaker, final Semaphore bulkhead) {
+			this.circuitBreaker = circuitBreaker;
+			this.bulkhead = bulkhead;
+			this.start = circuitBreaker.getCurrentTimestamp();
+		}
+		
+		public void onResponse(final int rawStatusCode) {
+			if (HttpStatus.Series.resolve(rawStatusCode) == HttpStatus.Series.SERVER_ERROR)
+				this.onError(new HttpServerErrorException(Optional.ofNullable(HttpStatus.resolve(rawStatusCode))
+						.orElse(HttpStatus.INTERNAL_SERVER_ERROR)));
+			else if (this.settled.compareAndSet(false, true)) {
+				this.circuitBreaker.onSuccess(this.elapsed(), this.circuitBreaker.getTimestampUnit());
+				this.bulkhead.release();
+			}
+		}
+		
+		public void onError(final Throwable throwable) {
+			if (this.settled.compareAndSet(false, true)) {
+				this.circuitBreaker.onError(this.elapsed(), this.circuitBreaker.getTimestampUnit(), throwable);
+				this.bulkhead.release();
+			}
+		}
+		
+		public void onCancel() {
+			if (this.settled.compareAndSet(false, true)) {
+				this.circuitBreaker.releasePermission();
+				this.bulkhead.release();
+			}
+		}
+		
+		private long elapsed() {
+			return this.circuitBreaker.getCurrentTimestamp() - this.start;
+		}
+		
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class DownstreamGuardConfig {
+	
+	@Bean
+	public DownstreamGuard downstreamGuard(final CircuitBreakerRegistry circuitBreakerRegistry, 
+			@Value("${app.http-client.bulkhead.max-concurrent-calls:50}") final int maxConcurrentCalls, 
+			@Value("${app.http-client.bulkhead.max-wait:100ms}") final Duration maxWait, 
+			final MeterRegistry meterRegistry) {
+		return new DownstreamGuard(circuitBreakerRegistry, maxConcurrentCalls, maxWait, meterRegistry);
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,87 @@
+package com.selimhorri.app.config.client;
+
+import java.net.URI;
+import java.util.function.Function;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Thin non-blocking counterpart of a Feign client interface, bound to one 
+ * downstream resource, e.g. http://PRODUCT-SERVICE/product-service/api/products.
+ */
+public class DownstreamWebClient {
+	
+	private final WebClient webClient;
+	
+	public DownstreamWebClient(final WebClient downstreamWebClient, final String baseUrl) {
+		this.webClient = downstreamWebClient.mutate()
+				.baseUrl(baseUrl)
+				.build();
+	}
+	
+	public <T> Mono<T> get(final Class<T> type, final String uri, final Object... uriVariables) {
+		return this.webClient.get()
+				.uri(uri, uriVariables)
+				.retrieve()
+				.bodyToMono(type);
+	}
+	
+	public <T> Mono<T> get(final Class<T> type, final Function<UriBuilder, URI> uriFunction) {
+		return this.webClient.get()
+				.uri(uriFunction)
+				.retrieve()
+				.bodyToMono(type);
+	}
+	
+	/**
+	 * GET carrying a JSON body, as some downstream "/find" endpoints expect.
+	 */
+	public <T> Mono<T> getWithBody(final Class<T> type, final Object body, final String uri, final Object... uriVariables) {
+		return this.exchange(HttpMethod.GET, type, body, uri, uriVariables);
+	}
+	
+	public <T> Mono<T> post(final Class<T> type, final Object body) {
+		return this.exchange(HttpMethod.POST, type, body, "");
+	}
+	
+	public <T> Mono<T> put(final Class<T> type, final Object body, final String uri, final Object... uriVariables) {
+		return this.exchange(HttpMethod.PUT, type, body, uri, uriVariables);
+	}
+	
+	public Mono<Boolean> delete(final String uri, final Object... uriVariables) {
+		return this.webClient.delete()
+				.uri(uri, uriVariables)
+				.retrieve()
+				.bodyToMono(Boolean.class);
+	}
+	
+	public Mono<Boolean> deleteWithBody(final Object body, final String uri, final Object... uriVariables) {
+		return this.exchange(HttpMethod.DELETE, Boolean.class, body, uri, uriVariables);
+	}
+	
+	private <T> Mono<T> exchange(final HttpMethod method, final Class<T> type, final Object body, 
+			final String uri, final Object... uriVariables) {
+		return this.webClient.method(method)
+				.uri(uri, uriVariables)
+				.bodyValue(body)
+				.retrieve()
+				.bodyToMono(type);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,39 @@
+package com.selimhorri.app.config.client;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+public class FanOutConfig {
+	
+	/**
+	 * Runs the concurrent downstream calls of composite endpoints. Bounded, so a 
+	 * slow dependency fills the queue and is rejected instead of piling up threads.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService fanOutExecutorService(
+			@Value("${app.fan-out.pool-size:32}") final int poolSize, 
+			@Value("${app.fan-out.queue-capacity:256}") final int queueCapacity, 
+			final MeterRegistry meterRegistry) {
+		return ExecutorServiceMetrics.monitor(meterRegistry, 
+				new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, 
+						new ArrayBlockingQueue<>(queueCapacity), 
+						new CustomizableThreadFactory("fan-out-"), 
+						new ThreadPoolExecutor.AbortPolicy()), 
+				"fan-out");
+	}
+	
+	
+	
+}
+
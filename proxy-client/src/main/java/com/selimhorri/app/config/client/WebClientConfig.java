@@ -0,0 +1,68 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Non-blocking downstream client used when app.client.mode is reactive. Shares the 
+ * pool and timeout settings of the blocking client, so both modes are sized alike.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.client.mode", havingValue = "reactive")
+public class WebClientConfig {
+	
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider downstreamConnectionProvider(
+			@Value("${app.http-client.max-total-connections:200}") final int maxTotalConnections, 
+			@Value("${app.http-client.connection-request-timeout:1s}") final Duration connectionRequestTimeout, 
+			@Value("${app.http-client.time-to-live:5m}") final Duration timeToLive) {
+		return ConnectionProvider.builder("downstream")
+				.maxConnections(maxTotalConnections)
+				.pendingAcquireTimeout(connectionRequestTimeout)
+				.maxLifeTime(timeToLive)
+				.maxIdleTime(Duration.ofSeconds(30L))
+				.metrics(true)
+				.build();
+	}
+	
+	@Bean
+	public WebClient downstreamWebClient(final WebClient.Builder webClientBuilder, 
+			final ReactorLoadBalancerExchangeFilterFunction loadBalancerExchangeFilterFunction, 
+			final DownstreamGuard downstreamGuard, 
+			final ConnectionProvider downstreamConnectionProvider, 
+			@Value("${app.http-client.connect-timeout:2s}") final Duration connectTimeout, 
+			@Value("${app.http-client.read-timeout:5s}") final Duration readTimeout) {
+		final HttpClient httpClient = HttpClient.create(downstreamConnectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+				.responseTimeout(readTimeout);
+		return webClientBuilder
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.filter(downstreamGuard.exchangeFilterFunction())
+				.filter(loadBalancerExchangeFilterFunction)
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
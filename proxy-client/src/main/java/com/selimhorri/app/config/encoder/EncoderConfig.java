@@ -5,12 +5,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class EncoderConfig {
 	
 	@Bean
-	public PasswordEncoder getPasswordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder getPasswordEncoder(final MeterRegistry meterRegistry) {
+		return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
 	}
 	
 	
@@ -0,0 +1,46 @@
+package com.selimhorri.app.config.encoder;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records how long each hash takes, which is most of the cost of a login.
+ */
+@RequiredArgsConstructor
+public class TimedPasswordEncoder implements PasswordEncoder {
+	
+	private final PasswordEncoder delegate;
+	private final MeterRegistry meterRegistry;
+	
+	@Override
+	public String encode(final CharSequence rawPassword) {
+		return this.meterRegistry.timer("login.password.hash", "operation", "encode")
+				.record(() -> this.delegate.encode(rawPassword));
+	}
+	
+	@Override
+	public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+		return this.meterRegistry.timer("login.password.hash", "operation", "matches")
+				.record(() -> this.delegate.matches(rawPassword, encodedPassword));
+	}
+	
+	@Override
+	public boolean upgradeEncoding(final String encodedPassword) {
+		return this.delegate.upgradeEncoding(encodedPassword);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,18 @@
 package com.selimhorri.app.config.filter;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,7 +22,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,8 +37,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
 	
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+	
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final TokenRevocationService tokenRevocationService;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Timer> authenticationTimers = new ConcurrentHashMap<>();
+	private final Map<String, DistributionSummary> allocationSummaries = new ConcurrentHashMap<>();
+	
+	@Value("${app.jwt.strict-mode:false}")
+	private boolean strictMode;
 	
 	@Override
 	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
@@ -36,29 +57,70 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		
 		final var authorizationHeader = request.getHeader("Authorization");
 		
-		String username = null;
-		String jwt = null;
+		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") 
+				&& SecurityContextHolder.getContext().getAuthentication() == null )
+			this.authenticate(authorizationHeader.substring(7), request);
 		
-		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
-			jwt = authorizationHeader.substring(7);
-			username = jwtService.extractUsername(jwt);
-		}
+		filterChain.doFilter(request, response);
+		log.info("**Jwt request filtered!*\n");
+	}
+	
+	/**
+	 * Verifies the token once and carries the resulting claims through username 
+	 * extraction, expiry check and authority building. Authorities come from the 
+	 * signed claims unless strict mode is on or the token predates them, in which 
+	 * case the credential is looked up in user-service. Revoked tokens are turned 
+	 * away before any lookup.
+	 */
+	private void authenticate(final String jwt, final HttpServletRequest request) {
 		
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+		final Timer.Sample sample = Timer.start(this.meterRegistry);
+		final long allocatedBefore = allocatedBytes();
+		String outcome = "rejected";
+		
+		try {
+			final Claims claims = this.jwtService.extractAllClaims(jwt);
+			if (this.tokenRevocationService.isRevoked(claims.getId())) {
+				outcome = "revoked";
+				return;
+			}
 			
-			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+			final UserDetails userDetails = Optional.of(claims)
+					.filter(c -> !this.strictMode)
+					.flatMap(this.jwtService::extractUserDetails)
+					.orElseGet(() -> this.userDetailsService.loadUserByUsername(claims.getSubject()));
 			
-			if (this.jwtService.validateToken(jwt, userDetails)) {
+			if (this.jwtService.validateToken(claims, userDetails) 
+					&& userDetails.isEnabled() && userDetails.isAccountNonLocked()) {
 				final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
 						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 				usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 				SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+				outcome = "authenticated";
 			}
-			
 		}
-		
-		filterChain.doFilter(request, response);
-		log.info("**Jwt request filtered!*\n");
+		catch (JwtException e) {
+			log.info("**JwtRequestFilter, rejected token: {}*\n", e.getMessage());
+			throw e;
+		}
+		finally {
+			sample.stop(this.authenticationTimers.computeIfAbsent(outcome, 
+					o -> this.meterRegistry.timer("jwt.authentication", "outcome", o)));
+			this.allocationSummaries.computeIfAbsent(outcome, o -> DistributionSummary.builder("jwt.authentication.allocated")
+						.baseUnit("bytes")
+						.tag("outcome", o)
+						.register(this.meterRegistry))
+					.record(Math.max(0, allocatedBytes() - allocatedBefore));
+		}
+	}
+	
+	private static long allocatedBytes() {
+		if (!(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean))
+			return 0L;
+		final var threadMXBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+		return threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled() 
+				? threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) 
+				: 0L;
 	}
 	
 	
@@ -0,0 +1,44 @@
+package com.selimhorri.app.config.graphql;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import com.selimhorri.app.business.graphql.service.impl.GraphQLDataFetchers;
+
+import graphql.GraphQL;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+
+@Configuration
+public class GraphQLConfig {
+	
+	/**
+	 * The DataLoader dispatch instrumentation is added by graphql-java itself; the 
+	 * depth limit keeps a single query from fanning out without bound.
+	 */
+	@Bean
+	public GraphQL graphQL(final GraphQLDataFetchers graphQLDataFetchers, 
+			@Value("${app.graphql.schema-location:classpath:graphql/schema.graphqls}") final Resource schemaLocation, 
+			@Value("${app.graphql.max-query-depth:8}") final int maxQueryDepth) throws IOException {
+		try (final Reader reader = new InputStreamReader(schemaLocation.getInputStream(), StandardCharsets.UTF_8)) {
+			final GraphQLSchema graphQLSchema = new SchemaGenerator()
+					.makeExecutableSchema(new SchemaParser().parse(reader), graphQLDataFetchers.runtimeWiring());
+			return GraphQL.newGraphQL(graphQLSchema)
+					.instrumentation(new MaxQueryDepthInstrumentation(maxQueryDepth))
+					.build();
+		}
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,49 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableScheduling
+public class JwtConfig {
+	
+	/**
+	 * Claims of tokens whose signature was already verified, keyed by the full compact token, 
+	 * so a repeated bearer token skips the HMAC check. Expiry is still checked on every use.
+	 */
+	@Bean
+	public Cache<String, Claims> verifiedTokenCache(
+			@Value("${app.jwt.verified-token-cache.maximum-size:10000}") final long maximumSize, 
+			@Value("${app.jwt.verified-token-cache.time-to-live:5m}") final Duration timeToLive, 
+			final MeterRegistry meterRegistry) {
+		return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(timeToLive)
+				.recordStats()
+				.<String, Claims>build(), "jwt.verified-tokens");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,17 +1,26 @@
 package com.selimhorri.app.config.template;
 
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.client.DownstreamGuard;
+
 @Configuration
 public class TemplateConfig {
 	
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public RestTemplate restTemplateBean(final RestTemplateBuilder restTemplateBuilder, 
+			final CloseableHttpClient pooledHttpClient, final DownstreamGuard downstreamGuard) {
+		return restTemplateBuilder
+				.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(pooledHttpClient))
+				.additionalInterceptors(downstreamGuard.clientHttpRequestInterceptor())
+				.build();
 	}
 	
 	
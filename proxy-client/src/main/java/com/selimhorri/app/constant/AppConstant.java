@@ -11,6 +11,21 @@ public abstract class AppConstant {
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class JwtClaims {
+		
+		public static final String CREDENTIAL_ID = "cid";
+		public static final String ROLE = "role";
+		public static final String ENABLED = "enabled";
+		public static final String ACCOUNT_NON_EXPIRED = "accountNonExpired";
+		public static final String ACCOUNT_NON_LOCKED = "accountNonLocked";
+		public static final String CREDENTIALS_NON_EXPIRED = "credentialsNonExpired";
+		public static final String TOKEN_TYPE = "typ";
+		public static final String ACCESS_TOKEN = "access";
+		public static final String REFRESH_TOKEN = "refresh";
+		
+	}
+	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
 		
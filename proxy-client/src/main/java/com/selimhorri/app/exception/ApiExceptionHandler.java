@@ -3,6 +3,7 @@ package com.selimhorri.app.exception;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -10,10 +11,14 @@ import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import com.selimhorri.app.exception.payload.ExceptionMsg;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
+import com.selimhorri.app.exception.wrapper.LoginCapacityExceededException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
 
@@ -47,6 +52,26 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = {
+		WebClientResponseException.class,
+		WebClientException.class
+	})
+	public <T extends WebClientException> ResponseEntity<ExceptionMsg> handleReactiveProxyException(final T e) {
+		
+		log.info("**ApiExceptionHandler controller, handle reactive proxy exception*\n");
+		final var badRequest = HttpStatus.BAD_REQUEST;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg(e instanceof WebClientResponseException 
+							? ((WebClientResponseException) e).getResponseBodyAsString() 
+							: e.getMessage())
+					.httpStatus(badRequest)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), badRequest);
+	}
+	
 	@ExceptionHandler(value = {
 		MethodArgumentNotValidException.class,
 		HttpMessageNotReadableException.class
@@ -65,6 +90,41 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = {
+		LoginCapacityExceededException.class,
+	})
+	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleLoginCapacityException(final T e) {
+		
+		log.info("**ApiExceptionHandler controller, handle login capacity exception*\n");
+		final var tooManyRequests = HttpStatus.TOO_MANY_REQUESTS;
+		
+		return ResponseEntity.status(tooManyRequests)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(ExceptionMsg.builder()
+					.msg(e.getMessage())
+					.httpStatus(tooManyRequests)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build());
+	}
+	
+	@ExceptionHandler(value = {
+		DownstreamUnavailableException.class,
+	})
+	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleDownstreamUnavailableException(final T e) {
+		
+		log.info("**ApiExceptionHandler controller, handle downstream unavailable exception*\n");
+		final var serviceUnavailable = HttpStatus.SERVICE_UNAVAILABLE;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg(e.getMessage())
+					.httpStatus(serviceUnavailable)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), serviceUnavailable);
+	}
+	
 	@ExceptionHandler(value = {
 		UserObjectNotFoundException.class,
 		CredentialNotFoundException.class,
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class DownstreamUnavailableException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public DownstreamUnavailableException() {
+		super();
+	}
+	
+	public DownstreamUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public DownstreamUnavailableException(String message) {
+		super(message);
+	}
+	
+	public DownstreamUnavailableException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class LoginCapacityExceededException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public LoginCapacityExceededException() {
+		super();
+	}
+	
+	public LoginCapacityExceededException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public LoginCapacityExceededException(String message) {
+		super(message);
+	}
+	
+	public LoginCapacityExceededException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
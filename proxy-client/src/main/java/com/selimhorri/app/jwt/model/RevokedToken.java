@@ -0,0 +1,35 @@
+package com.selimhorri.app.jwt.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class RevokedToken implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Monotonic position in the revocation store, used to sync incrementally.
+	 */
+	private long sequence;
+	private String tokenId;
+	private long expiresAt;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,22 @@
+package com.selimhorri.app.jwt.model.response;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+import com.selimhorri.app.jwt.model.RevokedToken;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class RevokedTokenUserServiceDtoCollectionResponse implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	private Collection<RevokedToken> collection;
+	
+}
@@ -0,0 +1,18 @@
+package com.selimhorri.app.jwt.service;
+
+import java.util.Date;
+import java.util.List;
+
+import com.selimhorri.app.jwt.model.RevokedToken;
+
+public interface RevocationStore {
+	
+	/**
+	 * @return true if the token was not revoked yet
+	 */
+	boolean save(final String tokenId, final Date expiration);
+	boolean contains(final String tokenId);
+	List<RevokedToken> findAllAfter(final long sequence);
+	List<RevokedToken> findAllActive();
+	
+}
@@ -0,0 +1,14 @@
+package com.selimhorri.app.jwt.service;
+
+import java.util.Date;
+
+public interface TokenRevocationService {
+	
+	/**
+	 * Revokes the token with the given id until its own expiration.
+	 * @return true if this call revoked the token, false if it was already revoked
+	 */
+	boolean revoke(final String tokenId, final Date expiration);
+	boolean isRevoked(final String tokenId);
+	
+}
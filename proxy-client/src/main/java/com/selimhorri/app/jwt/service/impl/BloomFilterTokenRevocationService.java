@@ -0,0 +1,177 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
+import com.selimhorri.app.jwt.model.RevokedToken;
+import com.selimhorri.app.jwt.service.RevocationStore;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+import com.selimhorri.app.jwt.util.BloomFilter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers the per-request revocation check from an in-memory Bloom filter of revoked 
+ * token ids, so the common case (token not revoked) never touches the revocation store. 
+ * Only a positive hit is confirmed against the exact store. The filter is fed 
+ * incrementally from the store and rebuilt from its live entries once it has taken 
+ * more insertions than it was sized for, which also drops expired ids. When the live 
+ * entries alone outgrow the configured size, the rebuilt filter is sized for twice 
+ * their number, so it does not have to be rebuilt again on the next sync.
+ * 
+ * <p>Revocations made on another instance reach this filter with the next sync, so 
+ * they take effect here within one sync interval. Revoking itself always goes to the 
+ * shared store, which is what keeps refresh-token rotation single-use cluster-wide.
+ */
+@Service
+@Slf4j
+public class BloomFilterTokenRevocationService implements TokenRevocationService {
+	
+	/**
+	 * Sequences re-read on every sync. Store sequences are assigned before commit, so 
+	 * a lower one can become visible after a higher one was already synced past.
+	 */
+	static final long SEQUENCE_OVERLAP = 100L;
+	
+	private final RevocationStore revocationStore;
+	private final MeterRegistry meterRegistry;
+	private final long expectedInsertions;
+	private final double falsePositiveRate;
+	
+	private volatile BloomFilter bloomFilter;
+	private long capacity;
+	private long lastSequence;
+	
+	public BloomFilterTokenRevocationService(final RevocationStore revocationStore, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.jwt.revocation.expected-insertions:100000}") final long expectedInsertions, 
+			@Value("${app.jwt.revocation.false-positive-rate:0.01}") final double falsePositiveRate) {
+		this.revocationStore = revocationStore;
+		this.meterRegistry = meterRegistry;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.capacity = expectedInsertions;
+		this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+		// an unreachable store must not fail startup, the scheduled sync fills the filter later
+		this.synchronize();
+		
+		Gauge.builder("jwt.revocation.bloom.false-positive-rate", this, s -> s.bloomFilter.expectedFalsePositiveRate())
+				.description("Estimated false-positive rate of the revocation Bloom filter")
+				.register(meterRegistry);
+		Gauge.builder("jwt.revocation.bloom.size", this, s -> s.bloomFilter.sizeInBytes())
+				.baseUnit("bytes")
+				.description("Memory held by the revocation Bloom filter bit array")
+				.register(meterRegistry);
+		Gauge.builder("jwt.revocation.bloom.insertions", this, s -> s.bloomFilter.insertions())
+				.description("Token ids inserted into the current revocation Bloom filter")
+				.register(meterRegistry);
+	}
+	
+	@Override
+	public boolean revoke(final String tokenId, final Date expiration) {
+		log.info("**Boolean, token revocation service revoke token by id!*");
+		if (!this.revocationStore.save(tokenId, expiration))
+			return false;
+		this.bloomFilter.put(tokenId);
+		return true;
+	}
+	
+	@Override
+	public boolean isRevoked(final String tokenId) {
+		
+		if (tokenId == null)
+			return false;
+		
+		if (!this.bloomFilter.mightContain(tokenId)) {
+			this.meterRegistry.counter("jwt.revocation.checks", "result", "negative").increment();
+			return false;
+		}
+		
+		final boolean revoked;
+		try {
+			revoked = this.revocationStore.contains(tokenId);
+		}
+		catch (RestClientException | DownstreamUnavailableException e) {
+			// fail closed: an unconfirmed hit is treated as revoked
+			log.warn("**Revocation store unavailable, treating token {} as revoked: {}*", tokenId, e.getMessage());
+			this.meterRegistry.counter("jwt.revocation.checks", "result", "unconfirmed").increment();
+			return true;
+		}
+		this.meterRegistry.counter("jwt.revocation.checks", "result", revoked ? "revoked" : "false_positive").increment();
+		return revoked;
+	}
+	
+	/**
+	 * Picks up revocations written to the store by other instances.
+	 */
+	@Scheduled(fixedDelayString = "${app.jwt.revocation.sync-interval:PT10S}")
+	public synchronized void synchronize() {
+		try {
+			if (this.bloomFilter.insertions() > this.capacity)
+				this.rebuild();
+			else
+				this.drain(this.bloomFilter);
+		}
+		catch (RestClientException | DownstreamUnavailableException e) {
+			// keep the current filter and sequence, the next sync picks up from there
+			log.warn("**Revocation store unavailable, sync skipped: {}*", e.getMessage());
+		}
+	}
+	
+	private synchronized void rebuild() {
+		final List<RevokedToken> activeTokens = this.revocationStore.findAllActive();
+		final long capacity = Math.max(this.expectedInsertions, 2L * activeTokens.size());
+		if (capacity > this.capacity)
+			log.warn("**{} live revoked token ids exceed the configured {}, revocation bloom filter grown to {}*", 
+					activeTokens.size(), this.expectedInsertions, capacity);
+		final BloomFilter rebuilt = BloomFilter.create(capacity, this.falsePositiveRate);
+		final long previousSequence = this.lastSequence;
+		this.lastSequence = 0L;
+		this.apply(rebuilt, activeTokens);
+		this.lastSequence = Math.max(this.lastSequence, previousSequence);
+		this.bloomFilter = rebuilt;
+		this.capacity = capacity;
+		// revocations saved between the snapshot and the swap may have gone to the old filter only
+		this.drain(rebuilt);
+		log.info("**Revocation bloom filter rebuilt with {} token ids, {} bytes*", 
+				rebuilt.insertions(), rebuilt.sizeInBytes());
+	}
+	
+	private void drain(final BloomFilter target) {
+		long from;
+		do {
+			from = this.lastSequence;
+			this.apply(target, this.revocationStore.findAllAfter(Math.max(0L, from - SEQUENCE_OVERLAP)));
+		}
+		while (this.lastSequence > from);
+	}
+	
+	private void apply(final BloomFilter target, final List<RevokedToken> revokedTokens) {
+		revokedTokens.forEach(revokedToken -> {
+			if (!target.mightContain(revokedToken.getTokenId()))
+				target.put(revokedToken.getTokenId());
+			this.lastSequence = Math.max(this.lastSequence, revokedToken.getSequence());
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
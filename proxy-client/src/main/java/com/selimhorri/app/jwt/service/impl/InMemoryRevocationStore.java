@@ -0,0 +1,96 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.jwt.model.RevokedToken;
+import com.selimhorri.app.jwt.service.RevocationStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exact record of revoked token ids. Entries are kept only until the token itself 
+ * expires, and are deliberately unbounded: evicting a live entry would un-revoke it. 
+ * Local to one instance, so only for tests and single-node runs.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.jwt.revocation.store", havingValue = "in-memory")
+public class InMemoryRevocationStore implements RevocationStore {
+	
+	private final Cache<String, RevokedToken> revokedTokens = Caffeine.newBuilder()
+			.expireAfter(new Expiry<String, RevokedToken>() {
+				
+				@Override
+				public long expireAfterCreate(final String tokenId, final RevokedToken revokedToken, final long currentTime) {
+					return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, revokedToken.getExpiresAt() - System.currentTimeMillis()));
+				}
+				
+				@Override
+				public long expireAfterUpdate(final String tokenId, final RevokedToken revokedToken, 
+						final long currentTime, final long currentDuration) {
+					return currentDuration;
+				}
+				
+				@Override
+				public long expireAfterRead(final String tokenId, final RevokedToken revokedToken, 
+						final long currentTime, final long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
+	
+	private final NavigableMap<Long, RevokedToken> revocationLog = new ConcurrentSkipListMap<>();
+	private long sequence;
+	
+	@Override
+	public synchronized boolean save(final String tokenId, final Date expiration) {
+		log.info("**Boolean, revocation store save revoked token!*");
+		if (this.revokedTokens.getIfPresent(tokenId) != null)
+			return false;
+		final RevokedToken revokedToken = new RevokedToken(++this.sequence, tokenId, expiration.getTime());
+		this.revokedTokens.put(tokenId, revokedToken);
+		this.revocationLog.put(revokedToken.getSequence(), revokedToken);
+		return true;
+	}
+	
+	@Override
+	public boolean contains(final String tokenId) {
+		return this.revokedTokens.getIfPresent(tokenId) != null;
+	}
+	
+	@Override
+	public List<RevokedToken> findAllAfter(final long sequence) {
+		return new ArrayList<>(this.revocationLog.tailMap(sequence, false).values());
+	}
+	
+	@Override
+	public List<RevokedToken> findAllActive() {
+		final long now = System.currentTimeMillis();
+		this.revocationLog.values().removeIf(revokedToken -> revokedToken.getExpiresAt() < now);
+		return new ArrayList<>(this.revocationLog.values());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,6 +1,7 @@
 package com.selimhorri.app.jwt.service.impl;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -38,18 +39,48 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.extractClaims(token, claimsResolver);
 	}
 	
+	@Override
+	public Claims extractAllClaims(final String token) {
+		log.info("**Claims, jwt service extract all claims from given token!*");
+		return this.jwtUtil.extractAllClaims(token);
+	}
+	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final Claims claims) {
+		log.info("**Optional<UserDetails>, jwt service extract user details from given verified claims!*");
+		return this.jwtUtil.extractUserDetails(claims);
+	}
+	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		log.info("**String, jwt service generate token from given userDetails!*");
 		return this.jwtUtil.generateToken(userDetails);
 	}
 	
+	@Override
+	public String generateRefreshToken(final UserDetails userDetails) {
+		log.info("**String, jwt service generate refresh token from given userDetails!*");
+		return this.jwtUtil.generateRefreshToken(userDetails);
+	}
+	
+	@Override
+	public String generateRefreshToken(final UserDetails userDetails, final Date sessionExpiration) {
+		log.info("**String, jwt service rotate refresh token within the session expiration!*");
+		return this.jwtUtil.generateRefreshToken(userDetails, sessionExpiration);
+	}
+	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
 		log.info("**Boolean, jwt service validate token from given token and userDetails!*");
 		return this.jwtUtil.validateToken(token, userDetails);
 	}
 	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
+		log.info("**Boolean, jwt service validate token from given verified claims and userDetails!*");
+		return this.jwtUtil.validateToken(claims, userDetails);
+	}
+	
 	
 	
 }
@@ -0,0 +1,74 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.jwt.model.RevokedToken;
+import com.selimhorri.app.jwt.model.response.RevokedTokenUserServiceDtoCollectionResponse;
+import com.selimhorri.app.jwt.service.RevocationStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revocation store shared by every proxy-client instance, kept by user-service. Its 
+ * unique token id makes {@link #save} a cluster-wide compare-and-set, so a refresh 
+ * token can be rotated once in total rather than once per instance.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.jwt.revocation.store", havingValue = "remote", matchIfMissing = true)
+public class RemoteRevocationStore implements RevocationStore {
+	
+	private static final String API_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/revoked-tokens";
+	private final RestTemplate restTemplate;
+	
+	@Override
+	public boolean save(final String tokenId, final Date expiration) {
+		log.info("**Boolean, revocation store save revoked token!*");
+		return Boolean.TRUE.equals(this.restTemplate.postForObject(API_URL, 
+				RevokedToken.builder()
+					.tokenId(tokenId)
+					.expiresAt(expiration.getTime())
+					.build(), Boolean.class));
+	}
+	
+	@Override
+	public boolean contains(final String tokenId) {
+		return Boolean.TRUE.equals(this.restTemplate.getForObject(API_URL + "/" + tokenId, Boolean.class));
+	}
+	
+	/**
+	 * One page of live revocations; expired ones are already filtered out by user-service.
+	 */
+	@Override
+	public List<RevokedToken> findAllAfter(final long sequence) {
+		return Optional.ofNullable(this.restTemplate.getForObject(API_URL + "?after=" + sequence, 
+					RevokedTokenUserServiceDtoCollectionResponse.class))
+				.map(RevokedTokenUserServiceDtoCollectionResponse::getCollection)
+				.<List<RevokedToken>>map(ArrayList::new)
+				.orElseGet(List::of);
+	}
+	
+	@Override
+	public List<RevokedToken> findAllActive() {
+		final List<RevokedToken> activeTokens = new ArrayList<>();
+		List<RevokedToken> page = this.findAllAfter(0L);
+		while (!page.isEmpty()) {
+			activeTokens.addAll(page);
+			page = this.findAllAfter(page.get(page.size() - 1).getSequence());
+		}
+		return activeTokens;
+	}
+	
+	
+	
+}
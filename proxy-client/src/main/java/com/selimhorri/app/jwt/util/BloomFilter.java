@@ -0,0 +1,114 @@
+package com.selimhorri.app.jwt.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free Bloom filter over strings. A negative answer is exact, a positive one 
+ * is only probable. Sized from the expected number of insertions and the target 
+ * false-positive rate; beyond that number the real rate degrades and the filter 
+ * should be rebuilt.
+ */
+public final class BloomFilter {
+	
+	private static final double LN2 = Math.log(2);
+	
+	private final AtomicLongArray words;
+	private final long bitSize;
+	private final int hashFunctions;
+	private final LongAdder insertions = new LongAdder();
+	
+	private BloomFilter(final long bitSize, final int hashFunctions) {
+		this.words = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+		this.bitSize = (long) this.words.length() << 6;
+		this.hashFunctions = hashFunctions;
+	}
+	
+	public static BloomFilter create(final long expectedInsertions, final double falsePositiveRate) {
+		if (expectedInsertions <= 0 || falsePositiveRate <= 0.0d || falsePositiveRate >= 1.0d)
+			throw new IllegalArgumentException("Bloom filter needs positive insertions and a rate in (0, 1)");
+		final long bitSize = Math.max(64L, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2)));
+		final int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+		return new BloomFilter(bitSize, hashFunctions);
+	}
+	
+	public void put(final String value) {
+		final long hash1 = hash(value);
+		final long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < this.hashFunctions; i++) {
+			final long bit = Math.floorMod(hash1 + i * hash2, this.bitSize);
+			final int index = (int) (bit >>> 6);
+			final long mask = 1L << bit;
+			long word;
+			while (((word = this.words.get(index)) & mask) == 0 
+					&& !this.words.compareAndSet(index, word, word | mask));
+		}
+		this.insertions.increment();
+	}
+	
+	public boolean mightContain(final String value) {
+		final long hash1 = hash(value);
+		final long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+		for (int i = 0; i < this.hashFunctions; i++) {
+			final long bit = Math.floorMod(hash1 + i * hash2, this.bitSize);
+			if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+				return false;
+		}
+		return true;
+	}
+	
+	public long insertions() {
+		return this.insertions.sum();
+	}
+	
+	/**
+	 * Current false-positive probability, estimated from the fraction of bits set.
+	 */
+	public double expectedFalsePositiveRate() {
+		long setBits = 0;
+		for (int i = 0; i < this.words.length(); i++)
+			setBits += Long.bitCount(this.words.get(i));
+		return Math.pow((double) setBits / this.bitSize, this.hashFunctions);
+	}
+	
+	public long sizeInBytes() {
+		return (long) this.words.length() * Long.BYTES;
+	}
+	
+	public int hashFunctions() {
+		return this.hashFunctions;
+	}
+	
+	private static long hash(final String value) {
+		// FNV-1a over the UTF-8 bytes, finalised with the murmur3 mixer
+		long hash = 0xCBF29CE484222325L;
+		for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+	
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
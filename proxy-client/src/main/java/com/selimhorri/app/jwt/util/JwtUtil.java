@@ -1,6 +1,7 @@
 package com.selimhorri.app.jwt.util;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,7 +13,12 @@ public interface JwtUtil {
 	String extractUsername(final String token);
 	Date extractExpiration(final String token);
 	<T> T extractClaims(final String token, final Function<Claims, T> claimsResolver);
+	Claims extractAllClaims(final String token);
+	Optional<UserDetails> extractUserDetails(final Claims claims);
 	String generateToken(final UserDetails userDetails);
+	String generateRefreshToken(final UserDetails userDetails);
+	String generateRefreshToken(final UserDetails userDetails, final Date sessionExpiration);
 	Boolean validateToken(final String token, final UserDetails userDetails);
+	Boolean validateToken(final Claims claims, final UserDetails userDetails);
 	
 }
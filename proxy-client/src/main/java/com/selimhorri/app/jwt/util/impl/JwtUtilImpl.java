@@ -1,23 +1,44 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.constant.AppConstant.JwtClaims;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtilImpl implements JwtUtil {
 	
-	private static final String SECRET_KEY = "secret";
+	private final Cache<String, Claims> verifiedTokenCache;
+	
+	@Value("${app.jwt.secret}")
+	private String secretKey;
+	
+	@Value("${app.jwt.access-token-ttl:15m}")
+	private Duration accessTokenTtl;
+	
+	@Value("${app.jwt.refresh-token-ttl:7d}")
+	private Duration refreshTokenTtl;
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -35,35 +56,97 @@ public class JwtUtilImpl implements JwtUtil {
 		return claimsResolver.apply(claims);
 	}
 	
-	private Claims extractAllClaims(final String token) {
-		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+	@Override
+	public Claims extractAllClaims(final String token) {
+		return this.verifiedTokenCache.get(token, t -> Jwts.parser().setSigningKey(this.secretKey).parseClaimsJws(t).getBody());
+	}
+	
+	private Boolean isTokenExpired(final Claims claims) {
+		return claims.getExpiration().before(new Date());
 	}
 	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+	@Override
+	public Optional<UserDetails> extractUserDetails(final Claims claims) {
+		
+		final String role = claims.get(JwtClaims.ROLE, String.class);
+		if (role == null)
+			return Optional.empty();
+		
+		return Optional.of(new UserDetailsImpl(CredentialDto.builder()
+				.credentialId(claims.get(JwtClaims.CREDENTIAL_ID, Integer.class))
+				.username(claims.getSubject())
+				.roleBasedAuthority(RoleBasedAuthority.valueOf(role))
+				.isEnabled(claims.get(JwtClaims.ENABLED, Boolean.class))
+				.isAccountNonExpired(claims.get(JwtClaims.ACCOUNT_NON_EXPIRED, Boolean.class))
+				.isAccountNonLocked(claims.get(JwtClaims.ACCOUNT_NON_LOCKED, Boolean.class))
+				.isCredentialsNonExpired(claims.get(JwtClaims.CREDENTIALS_NON_EXPIRED, Boolean.class))
+				.build()));
 	}
 	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
+		return this.createToken(this.identityClaims(userDetails, JwtClaims.ACCESS_TOKEN), 
+				userDetails.getUsername(), this.expiresIn(this.accessTokenTtl));
+	}
+	
+	@Override
+	public String generateRefreshToken(final UserDetails userDetails) {
+		return this.createToken(this.identityClaims(userDetails, JwtClaims.REFRESH_TOKEN), 
+				userDetails.getUsername(), this.expiresIn(this.refreshTokenTtl));
+	}
+	
+	/**
+	 * Rotated refresh tokens inherit the expiration of the session they renew, 
+	 * so refreshing never extends a session past its first refresh-token TTL.
+	 */
+	@Override
+	public String generateRefreshToken(final UserDetails userDetails, final Date sessionExpiration) {
+		final Date expiration = this.expiresIn(this.refreshTokenTtl);
+		return this.createToken(this.identityClaims(userDetails, JwtClaims.REFRESH_TOKEN), 
+				userDetails.getUsername(), sessionExpiration.before(expiration) ? sessionExpiration : expiration);
+	}
+	
+	private Map<String, Object> identityClaims(final UserDetails userDetails, final String tokenType) {
 		final Map<String, Object> claims = new HashMap<>();
-		return this.createToken(claims, userDetails.getUsername());
+		claims.put(JwtClaims.TOKEN_TYPE, tokenType);
+		userDetails.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.findFirst()
+				.ifPresent(role -> claims.put(JwtClaims.ROLE, role));
+		if (userDetails instanceof UserDetailsImpl)
+			claims.put(JwtClaims.CREDENTIAL_ID, ((UserDetailsImpl) userDetails).getCredential().getCredentialId());
+		claims.put(JwtClaims.ENABLED, userDetails.isEnabled());
+		claims.put(JwtClaims.ACCOUNT_NON_EXPIRED, userDetails.isAccountNonExpired());
+		claims.put(JwtClaims.ACCOUNT_NON_LOCKED, userDetails.isAccountNonLocked());
+		claims.put(JwtClaims.CREDENTIALS_NON_EXPIRED, userDetails.isCredentialsNonExpired());
+		return claims;
 	}
 	
-	private String createToken(final Map<String, Object> claims, final String subject) {
+	private Date expiresIn(final Duration timeToLive) {
+		return new Date(System.currentTimeMillis() + timeToLive.toMillis());
+	}
+	
+	private String createToken(final Map<String, Object> claims, final String subject, final Date expiration) {
 		return Jwts.builder()
 					.setClaims(claims)
+					.setId(UUID.randomUUID().toString())
 					.setSubject(subject)
-					.setIssuedAt(new Date(System.currentTimeMillis()))
-					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+					.setIssuedAt(new Date())
+					.setExpiration(expiration)
+					.signWith(SignatureAlgorithm.HS256, this.secretKey)
 		.compact();
 	}
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		return this.validateToken(this.extractAllClaims(token), userDetails);
+	}
+	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims) 
+				&& !JwtClaims.REFRESH_TOKEN.equals(claims.get(JwtClaims.TOKEN_TYPE, String.class))
 		);
 	}
 	
@@ -12,6 +12,11 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.header.writers.DelegatingRequestMatcherHeaderWriter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
 
 import com.selimhorri.app.business.user.model.RoleBasedAuthority;
 import com.selimhorri.app.config.filter.JwtRequestFilter;
@@ -53,6 +58,12 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 				.anyRequest().authenticated()
 			.and()
 			.headers()
+				.cacheControl().disable()
+				.addHeaderWriter(new DelegatingRequestMatcherHeaderWriter(
+						new NegatedRequestMatcher(new OrRequestMatcher(
+								new AntPathRequestMatcher("/api/categories/**", HttpMethod.GET.name()), 
+								new AntPathRequestMatcher("/api/products/**", HttpMethod.GET.name()))), 
+						new CacheControlHeadersWriter()))
 				.frameOptions()
 				.sameOrigin()
 			.and()
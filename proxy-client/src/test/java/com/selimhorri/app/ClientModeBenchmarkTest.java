@@ -0,0 +1,215 @@
+package com.selimhorri.app;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the proxy-client once per app.client.mode against a stub PRODUCT-SERVICE that answers
+ * after a fixed delay, drives the same closed-loop load at GET /app/api/products/{id} and
+ * compares throughput, client-side p50/p99 and the busy Tomcat and live JVM threads sampled
+ * during the run. The numbers are printed and appended to target/client-mode-benchmark.csv.
+ * Concurrency stays within app.http-client.bulkhead.max-concurrent-calls by default, so the
+ * comparison is about threads and latency rather than refused calls.
+ *
+ * <pre>
+ * mvn -B test -Dtest=ClientModeBenchmarkTest -Dbenchmark=true \
+ *     [-Dbenchmark.concurrency=40] [-Dbenchmark.requests=2000] [-Dbenchmark.latency-ms=200]
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ClientModeBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 40);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2000);
+    private static final int WARM_UP = Integer.getInteger("benchmark.warm-up", 200);
+    private static final long LATENCY_MS = Long.getLong("benchmark.latency-ms", 200L);
+    private static final Path REPORT = Path.of("target", "client-mode-benchmark.csv");
+
+    private static HttpServer productService;
+    private static ScheduledExecutorService responder;
+    private static ExecutorService loadExecutorService;
+    private static HttpClient httpClient;
+
+    @BeforeAll
+    static void startProductService() throws IOException {
+        byte[] product = "{\"productId\":1,\"productTitle\":\"asus\",\"sku\":\"sku-1\",\"priceUnit\":100.0,\"quantity\":10}"
+                .getBytes(StandardCharsets.UTF_8);
+        responder = Executors.newScheduledThreadPool(2);
+        productService = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        // the reply is scheduled rather than slept on, so the stub's own threads do not grow with the load
+        productService.createContext("/product-service/api/products", exchange -> responder.schedule(() -> {
+            try (OutputStream body = exchange.getResponseBody()) {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, product.length);
+                body.write(product);
+            }
+            catch (IOException e) {
+                exchange.close();
+            }
+        }, LATENCY_MS, TimeUnit.MILLISECONDS));
+        productService.setExecutor(Executors.newFixedThreadPool(2));
+        productService.start();
+
+        loadExecutorService = Executors.newFixedThreadPool(2);
+        httpClient = HttpClient.newBuilder().executor(loadExecutorService).build();
+    }
+
+    @AfterAll
+    static void stopProductService() {
+        productService.stop(0);
+        responder.shutdownNow();
+        loadExecutorService.shutdownNow();
+    }
+
+    @Test
+    void shouldServeSameLoadWithFewerRequestThreadsInReactiveMode() throws Exception {
+        Result feign = run("feign");
+        Result reactive = run("reactive");
+
+        report(feign, reactive);
+
+        assertEquals(0, feign.failures, "feign mode failed requests");
+        assertEquals(0, reactive.failures, "reactive mode failed requests");
+        assertTrue(reactive.peakBusyThreads < feign.peakBusyThreads,
+                "reactive mode should hold fewer Tomcat threads than feign mode under the same load");
+    }
+
+    private Result run(String mode) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProxyClientApplication.class).run(
+                "--app.client.mode=" + mode,
+                "--server.port=0",
+                "--spring.profiles.active=benchmark",
+                "--SPRING_CONFIG_IMPORT=optional:file:/nonexistent/",
+                "--spring.cloud.config.enabled=false",
+                "--eureka.client.enabled=false",
+                "--spring.zipkin.enabled=false",
+                "--spring.sleuth.enabled=false",
+                "--app.jwt.revocation.store=in-memory",
+                "--logging.level.root=WARN",
+                "--spring.cloud.discovery.client.simple.instances.PRODUCT-SERVICE[0].uri=http://localhost:"
+                        + productService.getAddress().getPort())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/app/api/products/1");
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            drive(uri, WARM_UP, new ArrayList<>());
+
+            AtomicInteger peakBusyThreads = new AtomicInteger();
+            AtomicInteger peakLiveThreads = new AtomicInteger();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(() -> {
+                peakBusyThreads.accumulateAndGet((int) meterRegistry.get("tomcat.threads.busy").gauge().value(), Math::max);
+                peakLiveThreads.accumulateAndGet((int) meterRegistry.get("jvm.threads.live").gauge().value(), Math::max);
+            }, 0L, 20L, TimeUnit.MILLISECONDS);
+
+            List<Long> latencies = new ArrayList<>(REQUESTS);
+            long start = System.nanoTime();
+            int failures = drive(uri, REQUESTS, latencies);
+            long elapsed = System.nanoTime() - start;
+            sampler.shutdownNow();
+
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new Result(mode, REQUESTS * 1e9 / elapsed, percentile(sorted, 0.5), percentile(sorted, 0.99),
+                    peakBusyThreads.get(), peakLiveThreads.get(), failures);
+        }
+    }
+
+    /**
+     * Closed loop: keeps CONCURRENCY requests in flight until {@code requests} have completed.
+     */
+    private int drive(URI uri, int requests, List<Long> latencies) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        AtomicLong[] timings = new AtomicLong[requests];
+        List<CompletableFuture<?>> calls = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            AtomicLong timing = timings[i] = new AtomicLong(System.nanoTime());
+            calls.add(httpClient.sendAsync(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        timing.set(System.nanoTime() - timing.get());
+                        if (e != null || response.statusCode() != 200)
+                            failures.incrementAndGet();
+                        inFlight.release();
+                    }));
+        }
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+        Arrays.stream(timings).forEach(timing -> latencies.add(timing.get()));
+        return failures.get();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1e6;
+    }
+
+    private static void report(Result... results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Result result : results) {
+            String line = String.format("%s,%d,%d,%d,%.1f,%.1f,%.1f,%d,%d,%d", result.mode, CONCURRENCY, REQUESTS, LATENCY_MS,
+                    result.throughput, result.p50, result.p99, result.peakBusyThreads, result.peakLiveThreads, result.failures);
+            lines.add(line);
+            System.out.printf("client.mode=%s concurrency=%d requests=%d downstream=%dms throughput=%.1f/s p50=%.1fms "
+                    + "p99=%.1fms tomcat.threads.busy(max)=%d jvm.threads.live(max)=%d failures=%d%n",
+                    result.mode, CONCURRENCY, REQUESTS, LATENCY_MS, result.throughput, result.p50, result.p99,
+                    result.peakBusyThreads, result.peakLiveThreads, result.failures);
+        }
+        if (Files.notExists(REPORT))
+            Files.writeString(REPORT, "mode,concurrency,requests,downstream_ms,throughput_rps,p50_ms,p99_ms,"
+                    + "tomcat_threads_busy_max,jvm_threads_live_max,failures\n");
+        Files.write(REPORT, lines, StandardOpenOption.APPEND);
+    }
+
+    private static final class Result {
+
+        private final String mode;
+        private final double throughput;
+        private final double p50;
+        private final double p99;
+        private final int peakBusyThreads;
+        private final int peakLiveThreads;
+        private final int failures;
+
+        private Result(String mode, double throughput, double p50, double p99,
+                int peakBusyThreads, int peakLiveThreads, int failures) {
+            this.mode = mode;
+            this.throughput = throughput;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.peakBusyThreads = peakBusyThreads;
+            this.peakLiveThreads = peakLiveThreads;
+            this.failures = failures;
+        }
+    }
+}
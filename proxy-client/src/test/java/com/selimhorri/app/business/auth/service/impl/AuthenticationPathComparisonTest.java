@@ -0,0 +1,129 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.auth.LoginBulkhead;
+import com.selimhorri.app.config.encoder.TimedPasswordEncoder;
+import com.selimhorri.app.jwt.service.impl.BloomFilterTokenRevocationService;
+import com.selimhorri.app.jwt.service.impl.InMemoryRevocationStore;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the refresh endpoint with the password path it replaces, using the production
+ * password encoder, authentication manager, bulkhead and revocation filter; only the
+ * credential lookup is local, which favours the password path (it looks the user up twice).
+ * The percentiles come from the {@code auth.token.issue} timer the service records, and are
+ * printed so a run on a given machine can be compared with the metric in production.
+ */
+class AuthenticationPathComparisonTest {
+
+    private static final int WARM_UP = 5;
+    private static final int PASSWORD_LOGINS = 30;
+    private static final int REFRESHES = 300;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService loginExecutorService;
+    private AuthenticationServiceImpl authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TimedPasswordEncoder passwordEncoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
+        UserDetailsImpl user = new UserDetailsImpl(CredentialDto.builder()
+                .credentialId(1)
+                .username("isa")
+                .password(passwordEncoder.encode("password"))
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build());
+        UserDetailsService userDetailsService = username -> user;
+
+        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+        authenticationProvider.setUserDetailsService(userDetailsService);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+
+        JwtUtilImpl jwtUtil = new JwtUtilImpl(Caffeine.newBuilder().<String, Claims>build());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "test-secret");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenTtl", Duration.ofDays(7));
+
+        loginExecutorService = Executors.newFixedThreadPool(2);
+        authenticationService = new AuthenticationServiceImpl(new ProviderManager(authenticationProvider), userDetailsService,
+                new JwtServiceImpl(jwtUtil), new LoginBulkhead(loginExecutorService, Duration.ofSeconds(10), meterRegistry),
+                new BloomFilterTokenRevocationService(new InMemoryRevocationStore(), meterRegistry, 100_000L, 0.01d),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginExecutorService.shutdownNow();
+    }
+
+    @Test
+    void shouldRenewTokensAnOrderOfMagnitudeFasterThanPasswordLogin() {
+        AuthenticationRequest credentials = new AuthenticationRequest("isa", "password");
+        String refreshToken = authenticationService.authenticate(credentials).getRefreshToken();
+        for (int i = 0; i < WARM_UP; i++) {
+            authenticationService.authenticate(credentials);
+            refreshToken = authenticationService.refresh(new RefreshTokenRequest(refreshToken)).getRefreshToken();
+        }
+        meterRegistry.clear();
+
+        for (int i = 0; i < PASSWORD_LOGINS; i++)
+            authenticationService.authenticate(credentials);
+        for (int i = 0; i < REFRESHES; i++)
+            refreshToken = authenticationService.refresh(new RefreshTokenRequest(refreshToken)).getRefreshToken();
+
+        Timer password = meterRegistry.get("auth.token.issue").tag("grant", "password").timer();
+        Timer refresh = meterRegistry.get("auth.token.issue").tag("grant", "refresh_token").timer();
+        report(password);
+        report(refresh);
+
+        assertEquals(PASSWORD_LOGINS, password.count());
+        assertEquals(REFRESHES, refresh.count());
+        assertTrue(percentile(refresh, 0.5) * 10 < percentile(password, 0.5),
+                "refresh p50 should be at least 10x below the password p50");
+        assertTrue(refresh.mean(TimeUnit.NANOSECONDS) * 10 < password.mean(TimeUnit.NANOSECONDS),
+                "refresh mean should be at least 10x below the password mean");
+    }
+
+    private static double percentile(Timer timer, double percentile) {
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues())
+            if (value.percentile() == percentile)
+                return value.value(TimeUnit.NANOSECONDS);
+        throw new IllegalArgumentException("percentile not published: " + percentile);
+    }
+
+    private static void report(Timer timer) {
+        System.out.printf("auth.token.issue grant=%s count=%d mean=%.3fms p50=%.3fms p95=%.3fms p99=%.3fms%n",
+                timer.getId().getTag("grant"), timer.count(), timer.mean(TimeUnit.MILLISECONDS),
+                percentile(timer, 0.5) / 1e6, percentile(timer, 0.95) / 1e6, percentile(timer, 0.99) / 1e6);
+    }
+}
@@ -0,0 +1,125 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.auth.model.request.RefreshTokenRequest;
+import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.auth.LoginBulkhead;
+import com.selimhorri.app.constant.AppConstant.JwtClaims;
+import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuthenticationServiceImplTest {
+
+    private JwtUtilImpl jwtUtil;
+    private UserDetailsService userDetailsService;
+    private TokenRevocationService tokenRevocationService;
+    private AuthenticationServiceImpl authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtilImpl(Caffeine.newBuilder().<String, Claims>build());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "test-secret");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenTtl", Duration.ofDays(7));
+        userDetailsService = mock(UserDetailsService.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        when(tokenRevocationService.revoke(anyString(), any(Date.class))).thenReturn(true);
+        authenticationService = new AuthenticationServiceImpl(mock(AuthenticationManager.class), userDetailsService,
+                new JwtServiceImpl(jwtUtil), mock(LoginBulkhead.class), tokenRevocationService, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldKeepSessionExpirationAcrossRotations() {
+        when(userDetailsService.loadUserByUsername("isa")).thenReturn(user(RoleBasedAuthority.ROLE_USER, true));
+        Date sessionExpiration = new Date((System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)) / 1000 * 1000);
+        String refreshToken = jwtUtil.generateRefreshToken(user(RoleBasedAuthority.ROLE_USER, true), sessionExpiration);
+
+        for (int i = 0; i < 3; i++)
+            refreshToken = authenticationService.refresh(new RefreshTokenRequest(refreshToken)).getRefreshToken();
+
+        assertEquals(sessionExpiration, jwtUtil.extractExpiration(refreshToken));
+    }
+
+    @Test
+    void shouldRejectRefreshForDisabledAccount() {
+        String refreshToken = jwtUtil.generateRefreshToken(user(RoleBasedAuthority.ROLE_USER, true));
+        when(userDetailsService.loadUserByUsername("isa")).thenReturn(user(RoleBasedAuthority.ROLE_USER, false));
+
+        assertThrows(IllegalAuthenticationCredentialsException.class,
+                () -> authenticationService.refresh(new RefreshTokenRequest(refreshToken)));
+        verify(tokenRevocationService, never()).revoke(anyString(), any(Date.class));
+    }
+
+    @Test
+    void shouldRejectRefreshForDeletedAccount() {
+        String refreshToken = jwtUtil.generateRefreshToken(user(RoleBasedAuthority.ROLE_USER, true));
+        when(userDetailsService.loadUserByUsername("isa")).thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        assertThrows(IllegalAuthenticationCredentialsException.class,
+                () -> authenticationService.refresh(new RefreshTokenRequest(refreshToken)));
+    }
+
+    @Test
+    void shouldIssueTokensWithReloadedRole() {
+        String refreshToken = jwtUtil.generateRefreshToken(user(RoleBasedAuthority.ROLE_ADMIN, true));
+        when(userDetailsService.loadUserByUsername("isa")).thenReturn(user(RoleBasedAuthority.ROLE_USER, true));
+
+        AuthenticationResponse response = authenticationService.refresh(new RefreshTokenRequest(refreshToken));
+
+        assertEquals(RoleBasedAuthority.ROLE_USER.name(), jwtUtil.extractAllClaims(response.getJwtToken()).get(JwtClaims.ROLE));
+        assertEquals(RoleBasedAuthority.ROLE_USER.name(), jwtUtil.extractAllClaims(response.getRefreshToken()).get(JwtClaims.ROLE));
+    }
+
+    @Test
+    void shouldRejectReplayedRefreshToken() {
+        String refreshToken = jwtUtil.generateRefreshToken(user(RoleBasedAuthority.ROLE_USER, true));
+        when(userDetailsService.loadUserByUsername("isa")).thenReturn(user(RoleBasedAuthority.ROLE_USER, true));
+        when(tokenRevocationService.revoke(anyString(), any(Date.class))).thenReturn(false);
+
+        assertThrows(IllegalAuthenticationCredentialsException.class,
+                () -> authenticationService.refresh(new RefreshTokenRequest(refreshToken)));
+    }
+
+    @Test
+    void shouldRejectAccessTokenAsRefreshToken() {
+        String accessToken = jwtUtil.generateToken(user(RoleBasedAuthority.ROLE_USER, true));
+
+        assertThrows(IllegalAuthenticationCredentialsException.class,
+                () -> authenticationService.refresh(new RefreshTokenRequest(accessToken)));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private static UserDetailsImpl user(RoleBasedAuthority role, boolean enabled) {
+        return new UserDetailsImpl(CredentialDto.builder()
+                .credentialId(1)
+                .username("isa")
+                .roleBasedAuthority(role)
+                .isEnabled(enabled)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+}
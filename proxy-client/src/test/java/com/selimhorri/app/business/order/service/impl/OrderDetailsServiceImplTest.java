@@ -0,0 +1,97 @@
+package com.selimhorri.app.business.order.service.impl;
+
+import com.selimhorri.app.business.order.model.OrderDetailsDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderDetailsServiceImplTest {
+
+    private OrderClientService orderClientService;
+    private OrderItemClientService orderItemClientService;
+    private PaymentClientService paymentClientService;
+    private ExecutorService fanOutExecutorService;
+
+    @BeforeEach
+    void setUp() {
+        orderClientService = mock(OrderClientService.class);
+        orderItemClientService = mock(OrderItemClientService.class);
+        paymentClientService = mock(PaymentClientService.class);
+        fanOutExecutorService = Executors.newFixedThreadPool(4);
+        when(orderClientService.findById("1")).thenReturn(ResponseEntity.ok(OrderDto.builder().orderId(1).build()));
+        when(orderItemClientService.findAllByOrderId("1")).thenReturn(ResponseEntity.ok().build());
+        when(paymentClientService.findAllByOrderId("1")).thenReturn(ResponseEntity.ok().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOutExecutorService.shutdownNow();
+    }
+
+    @Test
+    void shouldAnswerUnavailableAndFreeTheThreadWhenOrderTimesOut() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(orderClientService.findById("1")).thenAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await();
+            }
+            catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return ResponseEntity.ok(OrderDto.builder().orderId(1).build());
+        });
+
+        assertThrows(DownstreamUnavailableException.class, () -> service(fanOutExecutorService).findById("1"));
+
+        assertDoesNotThrow(() -> assertTrue(interrupted.await(5, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void shouldAnswerUnavailableWhenFanOutIsSaturated() {
+        ExecutorService saturated = mock(ExecutorService.class);
+        when(saturated.submit(any(Runnable.class))).thenThrow(new RejectedExecutionException("queue full"));
+
+        assertThrows(DownstreamUnavailableException.class, () -> service(saturated).findById("1"));
+    }
+
+    @Test
+    void shouldReportSlowPaymentsAsUnavailable() {
+        when(paymentClientService.findAllByOrderId("1")).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return ResponseEntity.ok().build();
+        });
+
+        OrderDetailsDto orderDetailsDto = service(fanOutExecutorService).findById("1");
+
+        assertEquals(1, orderDetailsDto.getOrderDto().getOrderId());
+        assertNotNull(orderDetailsDto.getOrderItemDtos());
+        assertNull(orderDetailsDto.getPaymentDtos());
+        assertEquals(Set.of("payments"), orderDetailsDto.getUnavailable());
+    }
+
+    private OrderDetailsServiceImpl service(ExecutorService executorService) {
+        return new OrderDetailsServiceImpl(orderClientService, orderItemClientService, paymentClientService,
+                executorService, new SimpleMeterRegistry(),
+                Duration.ofMillis(200), Duration.ofMillis(200), Duration.ofMillis(200));
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.selimhorri.app.config.filter;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JwtRequestFilterTest {
+
+    private JwtUtilImpl jwtUtil;
+    private TokenRevocationService tokenRevocationService;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtRequestFilter jwtRequestFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtilImpl(Caffeine.newBuilder().<String, Claims>build());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "test-secret");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenTtl", Duration.ofDays(7));
+        tokenRevocationService = mock(TokenRevocationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        jwtRequestFilter = new JwtRequestFilter(mock(UserDetailsService.class), new JwtServiceImpl(jwtUtil),
+                tokenRevocationService, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAuthenticateFromClaimsAndReuseOneMeterPerOutcome() throws Exception {
+        String token = jwtUtil.generateToken(user());
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            filter(token);
+            assertEquals("isa", SecurityContextHolder.getContext().getAuthentication().getName());
+        }
+
+        assertEquals(1, meterRegistry.find("jwt.authentication").timers().size());
+        assertEquals(3, meterRegistry.get("jwt.authentication").tag("outcome", "authenticated").timer().count());
+        assertEquals(1, meterRegistry.find("jwt.authentication.allocated").summaries().size());
+        assertEquals(3, meterRegistry.get("jwt.authentication.allocated").tag("outcome", "authenticated").summary().count());
+    }
+
+    @Test
+    void shouldNotAuthenticateRevokedToken() throws Exception {
+        when(tokenRevocationService.isRevoked(anyString())).thenReturn(true);
+
+        filter(jwtUtil.generateToken(user()));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, meterRegistry.get("jwt.authentication").tag("outcome", "revoked").timer().count());
+    }
+
+    private void filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private static UserDetailsImpl user() {
+        return new UserDetailsImpl(CredentialDto.builder()
+                .credentialId(1)
+                .username("isa")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+
+}
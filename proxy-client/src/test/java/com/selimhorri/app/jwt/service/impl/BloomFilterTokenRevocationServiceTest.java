@@ -0,0 +1,188 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import com.selimhorri.app.config.client.DownstreamGuard;
+import com.selimhorri.app.exception.wrapper.DownstreamUnavailableException;
+import com.selimhorri.app.jwt.model.RevokedToken;
+import com.selimhorri.app.jwt.service.RevocationStore;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerInterceptor;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerProperties;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.cloud.loadbalancer.blocking.client.BlockingLoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BloomFilterTokenRevocationServiceTest {
+
+    private InMemoryRevocationStore revocationStore;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        revocationStore = new InMemoryRevocationStore();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldRevokeTokenOnlyOnce() {
+        BloomFilterTokenRevocationService revocationService = service(revocationStore, 1_000);
+
+        assertFalse(revocationService.isRevoked("jti-1"));
+        assertTrue(revocationService.revoke("jti-1", inOneMinute()));
+        assertFalse(revocationService.revoke("jti-1", inOneMinute()));
+        assertTrue(revocationService.isRevoked("jti-1"));
+    }
+
+    @Test
+    void shouldPickUpRevocationsFromOtherInstancesOnSync() {
+        BloomFilterTokenRevocationService instanceA = service(revocationStore, 1_000);
+        BloomFilterTokenRevocationService instanceB = service(revocationStore, 1_000);
+
+        instanceA.revoke("jti-1", inOneMinute());
+        assertFalse(instanceB.isRevoked("jti-1"));
+
+        instanceB.synchronize();
+
+        assertTrue(instanceB.isRevoked("jti-1"));
+    }
+
+    @Test
+    void shouldLoadExistingRevocationsOnStartup() {
+        revocationStore.save("jti-1", inOneMinute());
+
+        assertTrue(service(revocationStore, 1_000).isRevoked("jti-1"));
+    }
+
+    @Test
+    void shouldRebuildWithoutExpiredTokenIdsOnceOverSized() {
+        BloomFilterTokenRevocationService revocationService = service(revocationStore, 2);
+        revocationService.revoke("expired", new Date(System.currentTimeMillis() - 1_000));
+        revocationService.revoke("jti-1", inOneMinute());
+        revocationService.revoke("jti-2", inOneMinute());
+        assertEquals(3.0d, insertions());
+
+        revocationService.synchronize();
+
+        assertEquals(2.0d, insertions());
+        assertTrue(revocationService.isRevoked("jti-1"));
+        assertTrue(revocationService.isRevoked("jti-2"));
+        assertFalse(revocationService.isRevoked("expired"));
+    }
+
+    @Test
+    void shouldNotSkipRevocationCommittedOutOfSequenceOrder() {
+        List<RevokedToken> committed = new ArrayList<>();
+        RevocationStore outOfOrderStore = mock(RevocationStore.class);
+        when(outOfOrderStore.findAllActive()).thenAnswer(invocation -> new ArrayList<>(committed));
+        when(outOfOrderStore.findAllAfter(anyLong())).thenAnswer(invocation -> committed.stream()
+                .filter(revokedToken -> revokedToken.getSequence() > invocation.<Long>getArgument(0))
+                .collect(Collectors.toList()));
+        when(outOfOrderStore.contains(anyString())).thenAnswer(invocation -> committed.stream()
+                .anyMatch(revokedToken -> revokedToken.getTokenId().equals(invocation.getArgument(0))));
+        BloomFilterTokenRevocationService revocationService = service(outOfOrderStore, 1_000);
+
+        committed.add(new RevokedToken(2L, "jti-2", inOneMinute().getTime()));
+        revocationService.synchronize();
+        committed.add(new RevokedToken(1L, "jti-1", inOneMinute().getTime()));
+        revocationService.synchronize();
+
+        assertTrue(revocationService.isRevoked("jti-1"));
+        assertTrue(revocationService.isRevoked("jti-2"));
+    }
+
+    @Test
+    void shouldStartAndKeepServingWhenStoreIsUnavailable() {
+        RevocationStore unavailableStore = mock(RevocationStore.class);
+        when(unavailableStore.findAllAfter(anyLong())).thenThrow(new ResourceAccessException("down"));
+        when(unavailableStore.save(anyString(), any(Date.class))).thenReturn(true);
+        when(unavailableStore.contains(anyString())).thenThrow(new ResourceAccessException("down"));
+
+        BloomFilterTokenRevocationService revocationService = service(unavailableStore, 1_000);
+        revocationService.revoke("jti-1", inOneMinute());
+        revocationService.synchronize();
+
+        assertFalse(revocationService.isRevoked("jti-2"));
+        assertTrue(revocationService.isRevoked("jti-1"));
+        assertEquals(1.0d, meterRegistry.counter("jwt.revocation.checks", "result", "unconfirmed").count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStartWhenUserServiceHasNoInstances() {
+        ReactiveLoadBalancer<ServiceInstance> loadBalancer = mock(ReactiveLoadBalancer.class);
+        when(loadBalancer.choose(any())).thenAnswer(invocation -> Mono.just(new EmptyResponse()));
+        LoadBalancerClientFactory loadBalancerClientFactory = mock(LoadBalancerClientFactory.class);
+        when(loadBalancerClientFactory.getInstance(anyString())).thenReturn(loadBalancer);
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(
+                new DownstreamGuard(CircuitBreakerRegistry.ofDefaults(), 10, Duration.ZERO, meterRegistry)
+                        .clientHttpRequestInterceptor(),
+                new LoadBalancerInterceptor(new BlockingLoadBalancerClient(loadBalancerClientFactory, new LoadBalancerProperties()))));
+        RemoteRevocationStore remoteRevocationStore = new RemoteRevocationStore(restTemplate);
+
+        BloomFilterTokenRevocationService revocationService = assertDoesNotThrow(() -> service(remoteRevocationStore, 1_000));
+
+        assertThrows(DownstreamUnavailableException.class, () -> remoteRevocationStore.contains("jti-1"));
+        assertDoesNotThrow(revocationService::synchronize);
+        assertFalse(revocationService.isRevoked("jti-1"));
+    }
+
+    @Test
+    void shouldTreatUnconfirmedHitAsRevokedWhenDownstreamIsUnavailable() {
+        RevocationStore unavailableStore = mock(RevocationStore.class);
+        when(unavailableStore.save(anyString(), any(Date.class))).thenReturn(true);
+        when(unavailableStore.contains(anyString())).thenThrow(new DownstreamUnavailableException("USER-SERVICE is unavailable"));
+        BloomFilterTokenRevocationService revocationService = service(unavailableStore, 1_000);
+        revocationService.revoke("jti-1", inOneMinute());
+
+        assertTrue(revocationService.isRevoked("jti-1"));
+    }
+
+    @Test
+    void shouldGrowFilterInsteadOfRebuildingOnEverySync() {
+        InMemoryRevocationStore store = spy(revocationStore);
+        BloomFilterTokenRevocationService revocationService = service(store, 2);
+        for (int i = 0; i < 5; i++)
+            revocationService.revoke("jti-" + i, inOneMinute());
+
+        revocationService.synchronize();
+        revocationService.synchronize();
+        revocationService.synchronize();
+
+        verify(store, times(1)).findAllActive();
+        assertEquals(5.0d, insertions());
+        for (int i = 0; i < 5; i++)
+            assertTrue(revocationService.isRevoked("jti-" + i));
+    }
+
+    private BloomFilterTokenRevocationService service(RevocationStore store, long expectedInsertions) {
+        return new BloomFilterTokenRevocationService(store, meterRegistry, expectedInsertions, 0.01d);
+    }
+
+    private double insertions() {
+        return meterRegistry.get("jwt.revocation.bloom.insertions").gauge().value();
+    }
+
+    private static Date inOneMinute() {
+        return new Date(System.currentTimeMillis() + 60_000);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import com.selimhorri.app.jwt.model.RevokedToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRevocationStoreTest {
+
+    private final InMemoryRevocationStore revocationStore = new InMemoryRevocationStore();
+
+    @Test
+    void shouldSaveTokenIdOnlyOnce() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        assertTrue(revocationStore.save("jti-1", expiration));
+        assertFalse(revocationStore.save("jti-1", expiration));
+        assertTrue(revocationStore.contains("jti-1"));
+    }
+
+    @Test
+    void shouldPruneExpiredTokenIds() {
+        revocationStore.save("expired", new Date(System.currentTimeMillis() - 1_000));
+        revocationStore.save("live", new Date(System.currentTimeMillis() + 60_000));
+
+        assertFalse(revocationStore.contains("expired"));
+        assertEquals(List.of("live"), tokenIds(revocationStore.findAllActive()));
+        assertEquals(List.of("live"), tokenIds(revocationStore.findAllAfter(0L)));
+    }
+
+    @Test
+    void shouldReturnRevocationsAfterSequence() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        revocationStore.save("jti-1", expiration);
+        revocationStore.save("jti-2", expiration);
+
+        List<RevokedToken> revokedTokens = revocationStore.findAllAfter(1L);
+
+        assertEquals(List.of("jti-2"), tokenIds(revokedTokens));
+        assertEquals(2L, revokedTokens.get(0).getSequence());
+    }
+
+    private static List<String> tokenIds(List<RevokedToken> revokedTokens) {
+        return revokedTokens.stream().map(RevokedToken::getTokenId).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.selimhorri.app.jwt.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldNeverReturnFalseNegatives() {
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01d);
+        String[] tokenIds = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toArray(String[]::new);
+
+        for (String tokenId : tokenIds)
+            bloomFilter.put(tokenId);
+
+        for (String tokenId : tokenIds)
+            assertTrue(bloomFilter.mightContain(tokenId));
+        assertEquals(10_000, bloomFilter.insertions());
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateNearTargetAtExpectedInsertions() {
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01d);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("revoked-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> bloomFilter.mightContain("live-" + i))
+                .count();
+
+        assertTrue(falsePositives / 100_000d < 0.02d, "false positives: " + falsePositives);
+        assertEquals(0.01d, bloomFilter.expectedFalsePositiveRate(), 0.005d);
+    }
+
+    @Test
+    void shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01d));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0d));
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.selimhorri.app.jwt.util.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.constant.AppConstant.JwtClaims;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilImplTest {
+
+    private JwtUtilImpl jwtUtil;
+    private UserDetailsImpl userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtilImpl(Caffeine.newBuilder().<String, Claims>build());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "test-secret");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenTtl", Duration.ofDays(7));
+        userDetails = new UserDetailsImpl(CredentialDto.builder()
+                .credentialId(1)
+                .username("isa")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+
+    @Test
+    void shouldIssueRefreshTokenForFullTimeToLive() {
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateRefreshToken(userDetails));
+
+        assertEquals(JwtClaims.REFRESH_TOKEN, claims.get(JwtClaims.TOKEN_TYPE, String.class));
+        assertEquals(TimeUnit.DAYS.toSeconds(7), TimeUnit.MILLISECONDS.toSeconds(
+                claims.getExpiration().getTime() - claims.getIssuedAt().getTime()), 1);
+    }
+
+    @Test
+    void shouldKeepSessionExpirationWhenRotating() {
+        Date sessionExpiration = new Date((System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)) / 1000 * 1000);
+
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateRefreshToken(userDetails, sessionExpiration));
+
+        assertEquals(sessionExpiration, claims.getExpiration());
+    }
+
+    @Test
+    void shouldNeverExtendRotatedTokenPastTimeToLive() {
+        Date sessionExpiration = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(30));
+
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateRefreshToken(userDetails, sessionExpiration));
+
+        assertTrue(claims.getExpiration().before(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7) + 1000)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.selimhorri.app.dto.ProductDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class NearCacheConfig {
+	
+	@Bean
+	public NearCache<ProductDto> productNearCache(
+			@Value("${app.near-cache.products.maximum-size:10000}") final long maximumSize, 
+			@Value("${app.near-cache.products.time-to-live:5m}") final Duration timeToLive, 
+			final MeterRegistry meterRegistry) {
+		return new NearCache<>("products", maximumSize, timeToLive, meterRegistry, Ticker.systemTicker());
+	}
+	
+	
+	
+}
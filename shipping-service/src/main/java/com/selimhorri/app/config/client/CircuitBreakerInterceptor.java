@@ -0,0 +1,126 @@
+package com.selimhorri.app.config.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpServerErrorException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Guards each downstream service with its own circuit breaker (PRODUCT-SERVICE uses 
+ * the productService instance) and a cap on concurrent calls to it. A call is 
+ * refused at once with an I/O error when the breaker is open or no slot frees up 
+ * within the wait, so a dead dependency costs callers nothing but their fallback. 
+ * Server errors, I/O failures and services without instances count against the 
+ * breaker, client errors do not.
+ */
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+	
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+	private final int maxConcurrentCalls;
+	private final Duration maxWait;
+	private final MeterRegistry meterRegistry;
+	
+	public CircuitBreakerInterceptor(final CircuitBreakerRegistry circuitBreakerRegistry, 
+			final int maxConcurrentCalls, final Duration maxWait, final MeterRegistry meterRegistry) {
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+		this.maxConcurrentCalls = maxConcurrentCalls;
+		this.maxWait = maxWait;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, 
+			final ClientHttpRequestExecution execution) throws IOException {
+		
+		final String serviceId = Optional.ofNullable(request.getURI().getHost()).orElse("unknown");
+		final CircuitBreaker circuitBreaker = this.circuitBreakerRegistry.circuitBreaker(circuitBreakerName(serviceId));
+		if (!circuitBreaker.tryAcquirePermission()) {
+			this.rejected(serviceId, "circuit-open");
+			throw new IOException(String.format("Circuit breaker %s is %s", 
+					circuitBreaker.getName(), circuitBreaker.getState()));
+		}
+		
+		final Semaphore bulkhead = this.bulkheads.computeIfAbsent(serviceId, k -> new Semaphore(this.maxConcurrentCalls));
+		if (!this.tryAcquire(bulkhead, circuitBreaker)) {
+			circuitBreaker.releasePermission();
+			this.rejected(serviceId, "bulkhead-full");
+			throw new IOException(String.format("No free call slot for %s within %s", serviceId, this.maxWait));
+		}
+		
+		final long start = circuitBreaker.getCurrentTimestamp();
+		try {
+			final ClientHttpResponse response = execution.execute(request, body);
+			final long duration = circuitBreaker.getCurrentTimestamp() - start;
+			if (HttpStatus.Series.resolve(response.getRawStatusCode()) == HttpStatus.Series.SERVER_ERROR)
+				circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), new HttpServerErrorException(
+						Optional.ofNullable(HttpStatus.resolve(response.getRawStatusCode()))
+							.orElse(HttpStatus.INTERNAL_SERVER_ERROR)));
+			else
+				circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+			return response;
+		}
+		catch (IllegalStateException e) {
+			// the load balancer reports a service without instances this way; as an I/O error 
+			// it reaches callers as ResourceAccessException, like any other unreachable service
+			circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+			throw new IOException(e.getMessage(), e);
+		}
+		catch (IOException | RuntimeException e) {
+			circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+			throw e;
+		}
+		finally {
+			bulkhead.release();
+		}
+	}
+	
+	/**
+	 * Breaker instances follow the camel-case naming of the resilience4j block in 
+	 * application.yml, e.g. USER-SERVICE maps to userService.
+	 */
+	static String circuitBreakerName(final String serviceId) {
+		final String[] parts = serviceId.toLowerCase(Locale.ROOT).split("-");
+		return parts[0] + Arrays.stream(parts, 1, parts.length)
+				.map(StringUtils::capitalize)
+				.collect(Collectors.joining());
+	}
+	
+	private boolean tryAcquire(final Semaphore bulkhead, final CircuitBreaker circuitBreaker) throws IOException {
+		try {
+			return bulkhead.tryAcquire(this.maxWait.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException e) {
+			circuitBreaker.releasePermission();
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a call slot");
+		}
+	}
+	
+	private void rejected(final String serviceId, final String reason) {
+		this.meterRegistry.counter("http.client.requests.rejected", "clientName", serviceId, "reason", reason).increment();
+	}
+	
+	
+	
+}
+
@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+public class EnrichmentConfig {
+	
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService enrichmentExecutorService(
+			@Value("${app.enrichment.core-pool-size:8}") final int corePoolSize, 
+			@Value("${app.enrichment.max-pool-size:32}") final int maxPoolSize, 
+			@Value("${app.enrichment.queue-capacity:256}") final int queueCapacity, 
+			final MeterRegistry meterRegistry) {
+		return ExecutorServiceMetrics.monitor(meterRegistry, 
+				new ThreadPoolExecutor(corePoolSize, maxPoolSize, 60L, TimeUnit.SECONDS, 
+						new ArrayBlockingQueue<>(queueCapacity), 
+						new CustomizableThreadFactory("enrichment-"), 
+						new ThreadPoolExecutor.CallerRunsPolicy()), 
+				"enrichment");
+	}
+	
+	@Bean
+	public EnrichmentExecutor enrichmentExecutor(
+			final ExecutorService enrichmentExecutorService, 
+			@Value("${app.enrichment.timeout:2s}") final Duration timeout) {
+		return new EnrichmentExecutor(enrichmentExecutorService, timeout);
+	}
+	
+	
+	
+}
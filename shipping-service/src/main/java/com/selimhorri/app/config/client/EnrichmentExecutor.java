@@ -0,0 +1,79 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs independent downstream lookups concurrently on a bounded executor, 
+ * each one capped by the same per-call timeout. The caller's request 
+ * attributes travel with each lookup so request-scoped client state is shared.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EnrichmentExecutor {
+	
+	private final Executor executor;
+	private final Duration timeout;
+	
+	public <T> CompletableFuture<T> submit(final Supplier<T> lookup) {
+		final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		return CompletableFuture.supplyAsync(() -> {
+					final RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+					RequestContextHolder.setRequestAttributes(requestAttributes);
+					try {
+						return lookup.get();
+					}
+					finally {
+						RequestContextHolder.setRequestAttributes(previous);
+					}
+				}, this.executor)
+				.orTimeout(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * A lookup that outlived the timeout surfaces as a {@link ResourceAccessException}, 
+	 * like any other downstream that could not be reached in time.
+	 */
+	public static <T> T join(final CompletableFuture<T> lookup) {
+		try {
+			return lookup.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof TimeoutException)
+				throw new ResourceAccessException("Enrichment lookup timed out");
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Same as {@link #join(CompletableFuture)}, but an unreachable or timed out 
+	 * lookup degrades to the given fallback instead of failing the caller.
+	 */
+	public static <T> T join(final CompletableFuture<T> lookup, final Supplier<T> fallback) {
+		try {
+			return join(lookup);
+		}
+		catch (RestClientException e) {
+			log.warn("*** Enrichment, executor; lookup unavailable, degrading: {} *", e.getMessage());
+			return fallback.get();
+		}
+	}
+	
+	
+	
+}
@@ -1,18 +1,35 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.cache.NearCache;
+import com.selimhorri.app.config.client.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
@@ -29,39 +46,74 @@ public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final NearCache<ProductDto> productNearCache;
+	
+	@PersistenceContext
+	private EntityManager entityManager;
 	
 	@Override
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.enrich(this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public void streamAll(final Consumer<OrderItemDto> consumer) {
+		log.info("*** OrderItemDto Stream, service; stream all orderItems *");
+		try (final Stream<OrderItem> orderItems = this.orderItemRepository.streamAll()) {
+			final List<OrderItemDto> chunk = new ArrayList<>(AppConstant.STREAM_CHUNK_SIZE);
+			orderItems.forEach(row -> {
+				chunk.add(OrderItemMappingHelper.map(row));
+				if (chunk.size() == AppConstant.STREAM_CHUNK_SIZE) {
+					this.enrich(chunk).forEach(consumer);
+					chunk.clear();
+					this.entityManager.clear();
+				}
+			});
+			this.enrich(chunk).forEach(consumer);
+		}
+	}
+	
 	@Override
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
 				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
+					final CompletableFuture<ProductDto> productDto = this.enrichmentExecutor.submit(() -> this.findProduct(o));
+					final CompletableFuture<OrderDto> orderDto = this.enrichmentExecutor.submit(() -> this.findOrder(o));
+					o.setProductDto(EnrichmentExecutor.join(productDto, o::getProductDto));
+					o.setOrderDto(EnrichmentExecutor.join(orderDto, o::getOrderDto));
 					return o;
 				})
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
+	/**
+	 * Items of one order, with their products; the order itself is known to 
+	 * the caller and is not fetched again.
+	 */
+	@Override
+	public List<OrderItemDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** OrderItemDto List, service; fetch orderItems by order id *");
+		final List<OrderItemDto> orderItemDtos = this.orderItemRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		if (orderItemDtos.isEmpty())
+			return orderItemDtos;
+		final Map<Integer, ProductDto> productDtosById = EnrichmentExecutor.join(this.fetchProducts(orderItemDtos), Map::of);
+		orderItemDtos.forEach(o -> o.setProductDto(productDtosById.getOrDefault(o.getProductId(), o.getProductDto())));
+		return orderItemDtos;
+	}
+	
 	@Override
 	public OrderItemDto save(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; save orderItem *");
@@ -82,6 +134,85 @@ public class OrderItemServiceImpl implements OrderItemService {
 		this.orderItemRepository.deleteById(orderItemId);
 	}
 	
+	private List<OrderItemDto> enrich(final List<OrderItemDto> orderItemDtos) {
+		if (orderItemDtos.isEmpty())
+			return orderItemDtos;
+		final CompletableFuture<Map<Integer, ProductDto>> productDtos = this.fetchProducts(orderItemDtos);
+		final CompletableFuture<Map<Integer, OrderDto>> orderDtos = this.enrichmentExecutor.submit(() -> this.fetchAllByIds(
+				AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL, 
+				orderItemDtos.stream()
+					.map(OrderItemDto::getOrderId)
+					.collect(Collectors.toUnmodifiableSet()), 
+				new ParameterizedTypeReference<DtoCollectionResponse<OrderDto>>() {}, 
+				OrderDto::getOrderId));
+		final Map<Integer, ProductDto> productDtosById = EnrichmentExecutor.join(productDtos, Map::of);
+		final Map<Integer, OrderDto> orderDtosById = EnrichmentExecutor.join(orderDtos, Map::of);
+		orderItemDtos.forEach(o -> {
+			o.setProductDto(productDtosById.getOrDefault(o.getProductId(), o.getProductDto()));
+			o.setOrderDto(orderDtosById.getOrDefault(o.getOrderId(), o.getOrderDto()));
+		});
+		return orderItemDtos;
+	}
+	
+	/**
+	 * Near-cache hits are served even while product-service is unreachable; a miss 
+	 * then degrades to the id-only product the item already carries.
+	 */
+	private ProductDto findProduct(final OrderItemDto orderItemDto) {
+		try {
+			return this.productNearCache.get(orderItemDto.getProductId(), productId -> this.restTemplate
+					.getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class));
+		}
+		catch (RestClientException e) {
+			log.warn("*** ProductDto, service; product {} unavailable, degrading: {} *", orderItemDto.getProductId(), e.getMessage());
+			return orderItemDto.getProductDto();
+		}
+	}
+	
+	private OrderDto findOrder(final OrderItemDto orderItemDto) {
+		try {
+			return this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+					.ORDER_SERVICE_API_URL + "/" + orderItemDto.getOrderDto().getOrderId(), OrderDto.class);
+		}
+		catch (RestClientException e) {
+			log.warn("*** OrderDto, service; order {} unavailable, degrading: {} *", orderItemDto.getOrderDto().getOrderId(), e.getMessage());
+			return orderItemDto.getOrderDto();
+		}
+	}
+	
+	private CompletableFuture<Map<Integer, ProductDto>> fetchProducts(final List<OrderItemDto> orderItemDtos) {
+		return this.enrichmentExecutor.submit(() -> this.productNearCache
+				.getAll(orderItemDtos.stream()
+					.map(OrderItemDto::getProductId)
+					.collect(Collectors.toUnmodifiableSet()), 
+				productIds -> this.fetchAllByIds(
+					AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, 
+					productIds, 
+					new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {}, 
+					ProductDto::getProductId)));
+	}
+	
+	private <T> Map<Integer, T> fetchAllByIds(final String apiUrl, final Collection<Integer> ids, 
+			final ParameterizedTypeReference<DtoCollectionResponse<T>> responseType, 
+			final Function<T, Integer> idExtractor) {
+		try {
+			return Optional.ofNullable(this.restTemplate
+						.exchange(apiUrl + "?ids=" + ids.stream()
+								.map(String::valueOf)
+								.collect(Collectors.joining(",")), HttpMethod.GET, null, responseType)
+						.getBody())
+					.map(DtoCollectionResponse::getCollection)
+					.map(c -> c.stream()
+							.collect(Collectors.toMap(idExtractor, Function.identity(), (d1, d2) -> d1)))
+					.orElseGet(Map::of);
+		}
+		catch (RestClientException e) {
+			// callers keep the id-only DTOs; nothing lands in the near-cache
+			log.warn("*** Dto Map, service; {} {} unavailable, degrading: {} *", apiUrl, ids, e.getMessage());
+			return Map.of();
+		}
+	}
+	
 	
 	
 }
@@ -0,0 +1,161 @@
+package com.selimhorri.app.service.impl;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.selimhorri.app.config.cache.NearCache;
+import com.selimhorri.app.config.client.EnrichmentExecutor;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.OrderItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderItemServiceImplTest {
+
+    private OrderItemRepository orderItemRepository;
+    private RestTemplate restTemplate;
+    private OrderItemServiceImpl orderItemService;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository = mock(OrderItemRepository.class);
+        restTemplate = mock(RestTemplate.class);
+        orderItemService = new OrderItemServiceImpl(orderItemRepository, restTemplate,
+                new EnrichmentExecutor(Runnable::run, Duration.ofSeconds(2)),
+                new NearCache<>("products", 100, Duration.ofMinutes(5), new SimpleMeterRegistry(), Ticker.systemTicker()));
+    }
+
+    @Test
+    void shouldEnrichAllOrderItemsWithOneBulkCallPerService() {
+        OrderItem orderItem1 = OrderItem.builder().productId(101).orderId(1).orderedQuantity(2).build();
+        OrderItem orderItem2 = OrderItem.builder().productId(102).orderId(1).orderedQuantity(1).build();
+        OrderItem orderItem3 = OrderItem.builder().productId(101).orderId(2).orderedQuantity(5).build();
+
+        ProductDto productDto1 = ProductDto.builder().productId(101).productTitle("Product 1").build();
+        ProductDto productDto2 = ProductDto.builder().productId(102).productTitle("Product 2").build();
+        OrderDto orderDto1 = OrderDto.builder().orderId(1).orderDesc("Order 1").build();
+        OrderDto orderDto2 = OrderDto.builder().orderId(2).orderDesc("Order 2").build();
+
+        when(orderItemRepository.findAll()).thenReturn(Arrays.asList(orderItem1, orderItem2, orderItem3));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(productDto1, productDto2))));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(orderDto1, orderDto2))));
+
+        List<OrderItemDto> result = orderItemService.findAll();
+
+        assertEquals(3, result.size());
+        assertEquals("Product 1", result.get(0).getProductDto().getProductTitle());
+        assertEquals("Order 1", result.get(0).getOrderDto().getOrderDesc());
+        assertEquals("Product 2", result.get(1).getProductDto().getProductTitle());
+        assertEquals("Product 1", result.get(2).getProductDto().getProductTitle());
+        assertEquals("Order 2", result.get(2).getOrderDto().getOrderDesc());
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, never()).getForObject(anyString(), any());
+    }
+
+    @Test
+    void shouldKeepIdOnlyReferencesWhenBulkLookupMissesAnId() {
+        OrderItem orderItem = OrderItem.builder().productId(999).orderId(9).orderedQuantity(1).build();
+
+        when(orderItemRepository.findAll()).thenReturn(Arrays.asList(orderItem));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList())));
+
+        List<OrderItemDto> result = orderItemService.findAll();
+
+        assertEquals(1, result.size());
+        assertEquals(999, result.get(0).getProductDto().getProductId());
+        assertEquals(9, result.get(0).getOrderDto().getOrderId());
+    }
+
+    @Test
+    void shouldNotCallDownstreamServicesForEmptyList() {
+        when(orderItemRepository.findAll()).thenReturn(Arrays.asList());
+
+        List<OrderItemDto> result = orderItemService.findAll();
+
+        assertEquals(0, result.size());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void shouldFetchOrderItemsByOrderIdWithProductsOnly() {
+        OrderItem orderItem1 = OrderItem.builder().productId(101).orderId(1).orderedQuantity(2).build();
+        OrderItem orderItem2 = OrderItem.builder().productId(102).orderId(1).orderedQuantity(1).build();
+
+        ProductDto productDto1 = ProductDto.builder().productId(101).productTitle("Product 1").build();
+        ProductDto productDto2 = ProductDto.builder().productId(102).productTitle("Product 2").build();
+
+        when(orderItemRepository.findAllByOrderId(1)).thenReturn(Arrays.asList(orderItem1, orderItem2));
+        when(restTemplate.exchange(startsWith(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids="),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(Arrays.asList(productDto1, productDto2))));
+
+        List<OrderItemDto> result = orderItemService.findAllByOrderId(1);
+
+        assertEquals(2, result.size());
+        assertEquals("Product 1", result.get(0).getProductDto().getProductTitle());
+        assertEquals("Product 2", result.get(1).getProductDto().getProductTitle());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, never()).exchange(startsWith(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL),
+                any(HttpMethod.class), any(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void shouldDegradeToIdOnlyReferencesWhenDownstreamIsUnavailable() {
+        OrderItem orderItem = OrderItem.builder().productId(101).orderId(1).orderedQuantity(2).build();
+
+        when(orderItemRepository.findAll()).thenReturn(Arrays.asList(orderItem));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new ResourceAccessException("Circuit breaker productService is OPEN"));
+
+        List<OrderItemDto> result = orderItemService.findAll();
+
+        assertEquals(1, result.size());
+        assertEquals(101, result.get(0).getProductDto().getProductId());
+        assertNull(result.get(0).getProductDto().getProductTitle());
+        assertEquals(1, result.get(0).getOrderDto().getOrderId());
+    }
+
+    @Test
+    void shouldServeCachedProductWhileProductServiceIsUnavailable() {
+        OrderItemId orderItemId = new OrderItemId(101, 1);
+        OrderItem orderItem = OrderItem.builder().productId(101).orderId(1).orderedQuantity(2).build();
+
+        when(orderItemRepository.findById(orderItemId)).thenReturn(Optional.of(orderItem));
+        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/101", ProductDto.class))
+                .thenReturn(ProductDto.builder().productId(101).productTitle("Product 1").build())
+                .thenThrow(new ResourceAccessException("Circuit breaker productService is OPEN"));
+        when(restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/1", OrderDto.class))
+                .thenThrow(new ResourceAccessException("Circuit breaker orderService is OPEN"));
+
+        orderItemService.findById(orderItemId);
+        OrderItemDto result = orderItemService.findById(orderItemId);
+
+        assertEquals("Product 1", result.getProductDto().getProductTitle());
+        assertEquals(1, result.getOrderDto().getOrderId());
+        assertNull(result.getOrderDto().getOrderDesc());
+        verify(restTemplate, times(1)).getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/101", ProductDto.class);
+    }
+}
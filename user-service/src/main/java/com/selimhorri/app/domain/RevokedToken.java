@@ -0,0 +1,43 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A JWT id revoked before its expiration. The generated id doubles as the 
+ * sequence consumers sync from, so rows are insert-only until they expire.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public final class RevokedToken implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "revoked_token_id", unique = true, nullable = false, updatable = false)
+	private Long sequence;
+	
+	@Column(name = "token_id", unique = true, nullable = false, updatable = false)
+	private String tokenId;
+	
+	@Column(name = "expires_at", nullable = false, updatable = false)
+	private Instant expiresAt;
+	
+}
@@ -0,0 +1,30 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+
+import javax.validation.constraints.NotBlank;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class RevokedTokenDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private long sequence;
+	
+	@NotBlank(message = "*Token id must not be blank!**")
+	private String tokenId;
+	
+	/**
+	 * Epoch millis of the token's own expiration.
+	 */
+	private long expiresAt;
+	
+}
@@ -0,0 +1,27 @@
+package com.selimhorri.app.helper;
+
+import java.time.Instant;
+
+import com.selimhorri.app.domain.RevokedToken;
+import com.selimhorri.app.dto.RevokedTokenDto;
+
+public interface RevokedTokenMappingHelper {
+	
+	public static RevokedTokenDto map(final RevokedToken revokedToken) {
+		return RevokedTokenDto.builder()
+				.sequence(revokedToken.getSequence())
+				.tokenId(revokedToken.getTokenId())
+				.expiresAt(revokedToken.getExpiresAt().toEpochMilli())
+				.build();
+	}
+	
+	public static RevokedToken map(final RevokedTokenDto revokedTokenDto) {
+		return RevokedToken.builder()
+				.tokenId(revokedTokenDto.getTokenId())
+				.expiresAt(Instant.ofEpochMilli(revokedTokenDto.getExpiresAt()))
+				.build();
+	}
+	
+	
+	
+}
@@ -0,0 +1,27 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.selimhorri.app.domain.RevokedToken;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+	
+	boolean existsByTokenIdAndExpiresAtAfter(final String tokenId, final Instant now);
+	
+	List<RevokedToken> findAllBySequenceGreaterThanAndExpiresAtAfterOrderBySequence(final Long sequence, 
+			final Instant now, final Pageable pageable);
+	
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+	int deleteAllExpiredBefore(@Param("now") final Instant now);
+	
+}
@@ -1,11 +1,21 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
@@ -17,4 +27,22 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.credential c WHERE c.username = :username")
     Optional<User> findByCredentialUsername(@Param("username") String username);
     
+    /**
+     * Busca varios usuarios por sus IDs en una sola consulta.
+     * Usa LEFT JOIN FETCH para cargar las credenciales sin una consulta extra por usuario.
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.credential WHERE u.userId IN :userIds")
+    List<User> findAllByUserIdIn(@Param("userIds") Collection<Integer> userIds);
+    
+    /**
+     * Recorre todos los usuarios como un cursor de base de datos, sin cargar la tabla completa en memoria.
+     * Usa LEFT JOIN FETCH para traer las credenciales en la misma fila.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.STREAM_FETCH_SIZE),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.credential")
+    Stream<User> streamAll();
+    
 }
\ No newline at end of file
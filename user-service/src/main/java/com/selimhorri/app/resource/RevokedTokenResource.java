@@ -0,0 +1,61 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.dto.RevokedTokenDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.service.RevokedTokenService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Internal API behind the token revocation checks; not routed by the api-gateway.
+ */
+@RestController
+@RequestMapping(value = {"/api/revoked-tokens"})
+@Slf4j
+@RequiredArgsConstructor
+public class RevokedTokenResource {
+	
+	private final RevokedTokenService revokedTokenService;
+	
+	@GetMapping(params = "after")
+	public ResponseEntity<DtoCollectionResponse<RevokedTokenDto>> findAllAfter(
+			@RequestParam("after") final long sequence) {
+		log.info("*** RevokedTokenDto List, resource; fetch revoked tokens after sequence *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.revokedTokenService.findAllAfter(sequence)));
+	}
+	
+	@GetMapping("/{tokenId}")
+	public ResponseEntity<Boolean> isRevoked(
+			@PathVariable("tokenId") 
+			@NotBlank(message = "Input must not blank") 
+			@Valid final String tokenId) {
+		log.info("*** Boolean, resource; check token revocation *");
+		return ResponseEntity.ok(this.revokedTokenService.isRevoked(tokenId.strip()));
+	}
+	
+	@PostMapping
+	public ResponseEntity<Boolean> revoke(
+			@RequestBody 
+			@NotNull(message = "Input must not NULL") 
+			@Valid final RevokedTokenDto revokedTokenDto) {
+		log.info("*** Boolean, resource; revoke token *");
+		return ResponseEntity.ok(this.revokedTokenService.revoke(revokedTokenDto));
+	}
+	
+	
+	
+}
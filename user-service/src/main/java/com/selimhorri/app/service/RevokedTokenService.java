@@ -0,0 +1,17 @@
+package com.selimhorri.app.service;
+
+import java.util.List;
+
+import com.selimhorri.app.dto.RevokedTokenDto;
+
+public interface RevokedTokenService {
+	
+	/**
+	 * @return true if this call revoked the token, false if it was already revoked
+	 */
+	boolean revoke(final RevokedTokenDto revokedTokenDto);
+	boolean isRevoked(final String tokenId);
+	List<RevokedTokenDto> findAllAfter(final long sequence);
+	int deleteAllExpired();
+	
+}
@@ -1,13 +1,17 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.UserDto;
 
 public interface UserService {
 	
 	List<UserDto> findAll();
+	void streamAll(final Consumer<UserDto> consumer);
 	UserDto findById(final Integer userId);
+	List<UserDto> findAllByIds(final Collection<Integer> userIds);
 	UserDto save(final UserDto userDto);
 	UserDto update(final UserDto userDto);
 	UserDto update(final Integer userId, final UserDto userDto);
@@ -0,0 +1,81 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.dto.RevokedTokenDto;
+import com.selimhorri.app.helper.RevokedTokenMappingHelper;
+import com.selimhorri.app.repository.RevokedTokenRepository;
+import com.selimhorri.app.service.RevokedTokenService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared record of revoked JWT ids for every proxy-client and gateway instance. 
+ * Revoking relies on the unique token id, so of two concurrent revocations of 
+ * the same token exactly one wins; this is what makes refresh rotation single-use.
+ */
+@Service
+@Slf4j
+public class RevokedTokenServiceImpl implements RevokedTokenService {
+	
+	private final RevokedTokenRepository revokedTokenRepository;
+	private final int pageSize;
+	
+	public RevokedTokenServiceImpl(final RevokedTokenRepository revokedTokenRepository, 
+			@Value("${app.revoked-tokens.page-size:1000}") final int pageSize) {
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.pageSize = pageSize;
+	}
+	
+	@Override
+	public boolean revoke(final RevokedTokenDto revokedTokenDto) {
+		log.info("*** Boolean, service; revoke token *");
+		try {
+			this.revokedTokenRepository.saveAndFlush(RevokedTokenMappingHelper.map(revokedTokenDto));
+			return true;
+		}
+		catch (DataIntegrityViolationException e) {
+			return false;
+		}
+	}
+	
+	@Override
+	public boolean isRevoked(final String tokenId) {
+		log.info("*** Boolean, service; check token revocation *");
+		return this.revokedTokenRepository.existsByTokenIdAndExpiresAtAfter(tokenId, Instant.now());
+	}
+	
+	/**
+	 * One page of live revocations past the given sequence, oldest first; 
+	 * callers keep asking from the last sequence until a page comes back short.
+	 */
+	@Override
+	public List<RevokedTokenDto> findAllAfter(final long sequence) {
+		log.info("*** RevokedTokenDto List, service; fetch revoked tokens after sequence *");
+		return this.revokedTokenRepository
+				.findAllBySequenceGreaterThanAndExpiresAtAfterOrderBySequence(sequence, Instant.now(), 
+						PageRequest.of(0, this.pageSize))
+				.stream()
+					.map(RevokedTokenMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	@Scheduled(fixedDelayString = "${app.revoked-tokens.prune-interval:PT10M}")
+	public int deleteAllExpired() {
+		final int deleted = this.revokedTokenRepository.deleteAllExpiredBefore(Instant.now());
+		log.info("*** Integer, service; pruned {} expired revoked tokens *", deleted);
+		return deleted;
+	}
+	
+	
+	
+}
@@ -1,12 +1,19 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
 
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.UserMappingHelper;
@@ -24,6 +31,9 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public List<UserDto> findAll() {
         log.info("📋 Listando todos los usuarios desde UserServiceImpl...");
@@ -34,6 +44,19 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toUnmodifiableList());
     }
 
+    @Override
+    public void streamAll(final Consumer<UserDto> consumer) {
+        log.info("📋 Transmitiendo todos los usuarios desde UserServiceImpl...");
+        try (final Stream<User> users = this.userRepository.streamAll()) {
+            final var rows = users.iterator();
+            for (int i = 1; rows.hasNext(); i++) {
+                consumer.accept(UserMappingHelper.map(rows.next()));
+                if (i % AppConstant.STREAM_CHUNK_SIZE == 0)
+                    this.entityManager.clear();
+            }
+        }
+    }
+
     @Override
     public UserDto findById(final Integer userId) {
         log.info("🔍 Buscando usuario con ID: {}", userId);
@@ -46,6 +69,16 @@ public class UserServiceImpl implements UserService {
                 );
     }
 
+    @Override
+    public List<UserDto> findAllByIds(final Collection<Integer> userIds) {
+        log.info("📋 Listando usuarios con IDs: {}", userIds);
+        return this.userRepository.findAllByUserIdIn(userIds)
+                .stream()
+                .map(UserMappingHelper::map)
+                .distinct()
+                .collect(Collectors.toUnmodifiableList());
+    }
+
     @Override
     public UserDto save(final UserDto userDto) {
         log.info("💾 Guardando nuevo usuario: {}", userDto.getFirstName());
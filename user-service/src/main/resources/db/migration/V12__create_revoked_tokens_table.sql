@@ -0,0 +1,9 @@
+
+CREATE TABLE revoked_tokens (
+	revoked_token_id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+	token_id VARCHAR(64) NOT NULL UNIQUE,
+	expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
@@ -0,0 +1,72 @@
+package com.selimhorri.app.service.impl;
+
+import com.selimhorri.app.domain.RevokedToken;
+import com.selimhorri.app.dto.RevokedTokenDto;
+import com.selimhorri.app.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RevokedTokenServiceImplTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private RevokedTokenServiceImpl revokedTokenService;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        revokedTokenService = new RevokedTokenServiceImpl(revokedTokenRepository, 2);
+    }
+
+    @Test
+    void shouldRevokeTokenOnce() {
+        RevokedTokenDto dto = RevokedTokenDto.builder()
+                .tokenId("jti-1")
+                .expiresAt(Instant.now().plusSeconds(60).toEpochMilli())
+                .build();
+        when(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .thenReturn(new RevokedToken(1L, "jti-1", Instant.ofEpochMilli(dto.getExpiresAt())))
+                .thenThrow(new DataIntegrityViolationException("duplicate token_id"));
+
+        assertTrue(revokedTokenService.revoke(dto));
+        assertFalse(revokedTokenService.revoke(dto));
+    }
+
+    @Test
+    void shouldMapRevocationsAfterSequenceWithPageSize() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        when(revokedTokenRepository.findAllBySequenceGreaterThanAndExpiresAtAfterOrderBySequence(eq(5L), any(Instant.class),
+                argThat((Pageable pageable) -> pageable.getPageSize() == 2)))
+                .thenReturn(List.of(new RevokedToken(6L, "jti-6", expiresAt), new RevokedToken(7L, "jti-7", expiresAt)));
+
+        List<RevokedTokenDto> result = revokedTokenService.findAllAfter(5L);
+
+        assertEquals(2, result.size());
+        assertEquals(6L, result.get(0).getSequence());
+        assertEquals("jti-7", result.get(1).getTokenId());
+        assertEquals(expiresAt.toEpochMilli(), result.get(1).getExpiresAt());
+    }
+
+    @Test
+    void shouldOnlyReportLiveRevocations() {
+        when(revokedTokenRepository.existsByTokenIdAndExpiresAtAfter(eq("jti-1"), any(Instant.class))).thenReturn(true);
+
+        assertTrue(revokedTokenService.isRevoked("jti-1"));
+        assertFalse(revokedTokenService.isRevoked("jti-2"));
+    }
+
+    @Test
+    void shouldPruneExpiredRevocations() {
+        when(revokedTokenRepository.deleteAllExpiredBefore(any(Instant.class))).thenReturn(3);
+
+        assertEquals(3, revokedTokenService.deleteAllExpired());
+    }
+}
@@ -136,4 +136,30 @@ class UserServiceImplTest {
             verify(userRepository, times(1)).findByCredentialUsername("isahc");
         }
     }
+
+    @Test
+    void shouldFindUsersByIdsWithSingleQuery() {
+        User user1 = new User();
+        user1.setUserId(1);
+        user1.setFirstName("Isa");
+
+        User user2 = new User();
+        user2.setUserId(2);
+        user2.setFirstName("Carlos");
+
+        List<Integer> userIds = Arrays.asList(1, 2);
+        when(userRepository.findAllByUserIdIn(userIds)).thenReturn(Arrays.asList(user1, user2));
+
+        try (MockedStatic<UserMappingHelper> mocked = mockStatic(UserMappingHelper.class)) {
+            mocked.when(() -> UserMappingHelper.map(user1)).thenReturn(UserDto.builder().userId(1).firstName("Isa").build());
+            mocked.when(() -> UserMappingHelper.map(user2)).thenReturn(UserDto.builder().userId(2).firstName("Carlos").build());
+
+            List<UserDto> result = userService.findAllByIds(userIds);
+
+            assertEquals(2, result.size());
+            assertEquals("Carlos", result.get(1).getFirstName());
+            verify(userRepository, times(1)).findAllByUserIdIn(userIds);
+            verify(userRepository, never()).findById(any());
+        }
+    }
 }